@@ -31,6 +31,18 @@ public class Slice extends CythonObject {
 		super.__setstate__(INIT_ATTRIBUTES, args);
 	}
 
+	public Integer getStart(){
+		return getOptionalInteger("start");
+	}
+
+	public Integer getStop(){
+		return getOptionalInteger("stop");
+	}
+
+	public Integer getStep(){
+		return getOptionalInteger("step");
+	}
+
 	private static final String[] INIT_ATTRIBUTES = {
 		"start",
 		"stop",
@@ -18,12 +18,15 @@
  */
 package joblib;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
 import numpy.DType;
 import numpy.core.NDArray;
 import numpy.core.NDArrayUtil;
+import org.jpmml.python.MappedInputStream;
 import org.jpmml.python.PythonObject;
 
 public class NumpyArrayWrapper extends PythonObject {
@@ -33,6 +36,15 @@ public class NumpyArrayWrapper extends PythonObject {
 	}
 
 	public NDArray toArray(InputStream is) throws IOException {
+		return toArray(is, null, true);
+	}
+
+	/**
+	 * @param file The file that is being read by the input stream, or <code>null</code>.
+	 * If not <code>null</code>, then the payload of a simple boolean or numeric array is skipped over, and read back from the file when the array content is first requested.
+	 * @param decode If <code>false</code>, then the payload of a simple boolean or numeric array is read, but not decoded until the array content is first requested.
+	 */
+	public NDArray toArray(InputStream is, File file, boolean decode) throws IOException {
 		DType dtype = getDType();
 		Object[] shape = getShape();
 		String order = getOrder();
@@ -40,7 +52,23 @@ public class NumpyArrayWrapper extends PythonObject {
 
 		Boolean fortranOrder = parseOrder(order);
 
-		Object data = NDArrayUtil.parseData(is, dtype, shape, numpyArrayAlignmentBytes);
+		Object data = null;
+
+		// Keep a reference to the file region
+		if(file != null && is instanceof FileInputStream){
+			FileInputStream fileIs = (FileInputStream)is;
+
+			data = NDArrayUtil.skipData(fileIs, file, dtype, shape, numpyArrayAlignmentBytes);
+		} else
+
+		// Keep a reference to the mapped region, or to the raw payload
+		if((is instanceof MappedInputStream) || !decode){
+			data = NDArrayUtil.readData(is, dtype, shape, numpyArrayAlignmentBytes);
+		} // End if
+
+		if(data == null){
+			data = NDArrayUtil.parseValues(is, dtype, shape, numpyArrayAlignmentBytes);
+		}
 
 		NDArray array = new NDArray();
 		array.__setstate__(new Object[]{null, shape, dtype, fortranOrder, data});
@@ -21,6 +21,7 @@ package numpy.core;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
@@ -28,6 +29,7 @@ import java.util.Objects;
 
 import net.razorvine.pickle.objects.ClassDictConstructor;
 import org.jpmml.python.CythonObject;
+import org.jpmml.python.FileRegion;
 import org.jpmml.python.HasArray;
 import org.jpmml.python.HasContent;
 
@@ -35,6 +37,8 @@ public class NDArray extends CythonObject implements HasArray, HasContent<Object
 
 	private Object content = null;
 
+	private Object values = null;
+
 
 	public NDArray(){
 		this("numpy", "ndarray");
@@ -62,6 +66,18 @@ public class NDArray extends CythonObject implements HasArray, HasContent<Object
 		super.__setstate__(SETSTATE_ATTRIBUTES, args);
 	}
 
+	/**
+	 * <p>
+	 * Gets the payload as a flat list in row-major (ie. C-type) order.
+	 * </p>
+	 *
+	 * <p>
+	 * The list is a view of the cached payload, not a copy.
+	 * A primitive payload is exposed as a fixed-size list that writes through to the underlying Java array,
+	 * and a column-major (ie. Fortran-type) payload is exposed as a strided list.
+	 * The list should not be modified. Callers that need a mutable list must copy it first.
+	 * </p>
+	 */
 	@Override
 	public List<?> getArrayContent(){
 		return NDArrayUtil.getContent(this);
@@ -77,11 +93,55 @@ public class NDArray extends CythonObject implements HasArray, HasContent<Object
 		return getDescr();
 	}
 
+	/**
+	 * Gets the payload of the specified row of a multi-dimensional array.
+	 *
+	 * @see NDArrayUtil#getRowContent(NDArray, int)
+	 */
+	public List<?> getRowContent(int row){
+		return NDArrayUtil.getRowContent(this, row);
+	}
+
+	/**
+	 * Gets the payload as a flat <code>double[]</code> array in row-major (ie. C-type) order.
+	 * Multi-dimensional arrays are flattened. Column-major (ie. Fortran-type) arrays are copied into a new array in row-major order.
+	 * Otherwise, the array may be shared with this object, and should not be modified.
+	 */
+	public double[] getDoubleContent(){
+		return NDArrayUtil.getDoubleContent(this);
+	}
+
+	/**
+	 * Gets the payload as a flat <code>long[]</code> array in row-major (ie. C-type) order.
+	 * Multi-dimensional arrays are flattened. Column-major (ie. Fortran-type) arrays are copied into a new array in row-major order.
+	 * Otherwise, the array may be shared with this object, and should not be modified.
+	 */
+	public long[] getLongContent(){
+		return NDArrayUtil.getLongContent(this);
+	}
+
+	/**
+	 * Gets the payload as a flat <code>boolean[]</code> array in row-major (ie. C-type) order.
+	 * Multi-dimensional arrays are flattened. Column-major (ie. Fortran-type) arrays are copied into a new array in row-major order.
+	 * Otherwise, the array may be shared with this object, and should not be modified.
+	 */
+	public boolean[] getBooleanContent(){
+		return NDArrayUtil.getBooleanContent(this);
+	}
+
 	@Override
 	public Object getContent(){
 
 		if(this.content == null){
-			this.content = loadContent();
+			Object values = getValues();
+
+			if(NDArrayUtil.isPrimitiveArray(values)){
+				this.content = NDArrayUtil.asList(values);
+			} else
+
+			{
+				this.content = values;
+			}
 		}
 
 		return this.content;
@@ -90,19 +150,58 @@ public class NDArray extends CythonObject implements HasArray, HasContent<Object
 	@Override
 	public void clearContent(){
 		this.content = null;
+		this.values = null;
+	}
+
+	/**
+	 * Gets the decoded payload.
+	 *
+	 * @see NDArrayUtil#parseValues(InputStream, Object, Object[], Integer)
+	 */
+	public Object getValues(){
+
+		if(this.values == null){
+			this.values = loadValues();
+		}
+
+		return this.values;
 	}
 
-	private Object loadContent(){
+	boolean hasValues(){
+		return (this.values != null);
+	}
+
+	private Object loadValues(){
 		Object[] shape = getShape();
 		Object descr = getDescr();
 		Object data = getData();
 
+		if(data instanceof ByteBuffer){
+			ByteBuffer buffer = (ByteBuffer)data;
+
+			return NDArrayUtil.parseValues(buffer, descr, shape);
+		} else
+
+		if(data instanceof FileRegion){
+			FileRegion fileRegion = (FileRegion)data;
+
+			ByteBuffer buffer;
+
+			try {
+				buffer = fileRegion.read();
+			} catch(IOException ioe){
+				throw new RuntimeException(ioe);
+			}
+
+			return NDArrayUtil.parseValues(buffer, descr, shape);
+		} // End if
+
 		if(!(data instanceof byte[])){
 			return data;
 		}
 
 		try(InputStream is = new ByteArrayInputStream((byte[])data)){
-			return NDArrayUtil.parseData(is, descr, shape);
+			return NDArrayUtil.parseValues(is, descr, shape, null);
 		} catch(IOException ioe){
 			throw new RuntimeException(ioe);
 		}
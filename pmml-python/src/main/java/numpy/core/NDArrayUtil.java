@@ -18,10 +18,15 @@
  */
 package numpy.core;
 
+import java.io.ByteArrayInputStream;
 import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
@@ -29,13 +34,23 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Doubles;
+import com.google.common.primitives.Floats;
 import com.google.common.primitives.Ints;
 import com.google.common.primitives.Longs;
+import com.google.common.primitives.Shorts;
 import net.razorvine.pickle.Unpickler;
 import net.razorvine.serpent.Parser;
 import net.razorvine.serpent.ast.Ast;
 import numpy.DType;
+import numpy.lib.NpyReader;
 import org.jpmml.converter.ValueUtil;
+import org.jpmml.python.ClassDictUtil;
+import org.jpmml.python.FileRegion;
+import org.jpmml.python.MappedInputStream;
 import org.jpmml.python.PythonUnpickler;
 import org.jpmml.python.TupleUtil;
 
@@ -75,6 +90,147 @@ public class NDArrayUtil {
 		return asJavaList(array, (List<?>)content.get(key));
 	}
 
+	/**
+	 * Gets the payload as a flat <code>double[]</code> array in row-major (ie. C-type) order.
+	 *
+	 * @see NDArray#getDoubleContent()
+	 */
+	static
+	public double[] getDoubleContent(NDArray array){
+		double[] values = toDoubleArray(array.getValues());
+
+		int[] shape = getFortranOrderShape(array);
+		if(shape != null){
+			StridedList<?> view = StridedList.forFortranOrder(Doubles.asList(values), shape);
+
+			double[] result = new double[values.length];
+
+			for(int i = 0; i < values.length; i++){
+				result[i] = values[view.getPosition(i)];
+			}
+
+			return result;
+		}
+
+		return values;
+	}
+
+	/**
+	 * Gets the payload as a flat <code>long[]</code> array in row-major (ie. C-type) order.
+	 *
+	 * @see NDArray#getLongContent()
+	 */
+	static
+	public long[] getLongContent(NDArray array){
+		long[] values = toLongArray(array.getValues());
+
+		int[] shape = getFortranOrderShape(array);
+		if(shape != null){
+			StridedList<?> view = StridedList.forFortranOrder(Longs.asList(values), shape);
+
+			long[] result = new long[values.length];
+
+			for(int i = 0; i < values.length; i++){
+				result[i] = values[view.getPosition(i)];
+			}
+
+			return result;
+		}
+
+		return values;
+	}
+
+	/**
+	 * Gets the payload as a flat <code>boolean[]</code> array in row-major (ie. C-type) order.
+	 *
+	 * @see NDArray#getBooleanContent()
+	 */
+	static
+	public boolean[] getBooleanContent(NDArray array){
+		boolean[] values = toBooleanArray(array.getValues());
+
+		int[] shape = getFortranOrderShape(array);
+		if(shape != null){
+			StridedList<?> view = StridedList.forFortranOrder(Booleans.asList(values), shape);
+
+			boolean[] result = new boolean[values.length];
+
+			for(int i = 0; i < values.length; i++){
+				result[i] = values[view.getPosition(i)];
+			}
+
+			return result;
+		}
+
+		return values;
+	}
+
+	/**
+	 * <p>
+	 * Gets the payload of the specified row of a multi-dimensional array.
+	 * </p>
+	 *
+	 * <p>
+	 * If the payload is a not yet decoded buffer of a simple boolean or numeric array in row-major (ie. C-type) order,
+	 * then only the bytes of the specified row are decoded.
+	 * Otherwise, the full payload is decoded, and the row is returned as a view.
+	 * </p>
+	 *
+	 * @see NDArray#getRowContent(int)
+	 */
+	static
+	public List<?> getRowContent(NDArray array, int row){
+		int[] shape = getShape(array);
+
+		if(shape.length < 2){
+			throw new IllegalArgumentException("Expected a multi-dimensional array, got a " + shape.length + "-dimensional array");
+		}
+
+		int rows = shape[0];
+		int columns = 1;
+
+		for(int i = 1; i < shape.length; i++){
+			columns = Math.multiplyExact(columns, shape[i]);
+		}
+
+		Objects.checkIndex(row, rows);
+
+		boolean fortranOrder = array.getFortranOrder();
+
+		if(!array.hasValues() && !fortranOrder){
+			TypeDescriptor descriptor = toPrimitiveDescriptor(array.getDescr());
+			Object data = array.getData();
+
+			ByteBuffer buffer = null;
+
+			if(data instanceof ByteBuffer){
+				buffer = ((ByteBuffer)data).duplicate();
+			} else
+
+			if(data instanceof byte[]){
+				buffer = ByteBuffer.wrap((byte[])data);
+			} // End if
+
+			if(descriptor != null && buffer != null){
+				int rowSize = Math.multiplyExact(columns, descriptor.getSize());
+
+				buffer.position(buffer.position() + Math.multiplyExact(row, rowSize));
+
+				return asList(descriptor.readArray(buffer, columns));
+			}
+		}
+
+		List<?> content = getContent(array);
+
+		if(content instanceof StridedList){
+			StridedList<?> view = (StridedList<?>)content;
+
+			return view.getRow(row);
+		}
+
+		return content.subList(row * columns, (row + 1) * columns);
+	}
+
 	static
 	public NDArray toArray(List<?> data){
 		NDArray result = new NDArray();
@@ -90,6 +246,14 @@ public class NDArrayUtil {
 		return asJavaList(array, values, false);
 	}
 
+	/**
+	 * <p>
+	 * Translates a column-major (ie. Fortran-type) array to a row-major (ie. C-type) array.
+	 * The translation is a view, so no elements are copied.
+	 * </p>
+	 *
+	 * @param fortranOrderShape <code>true</code> if the shape is given in reverse order, <code>false</code> otherwise.
+	 */
 	static
 	private <E> List<E> asJavaList(NDArray array, List<E> values, boolean fortranOrderShape){
 		boolean fortranOrder = array.getFortranOrder();
@@ -97,84 +261,50 @@ public class NDArrayUtil {
 		if(fortranOrder){
 			int[] shape = getShape(array);
 
-			switch(shape.length){
-				case 1:
-					return values;
-				case 2:
-					if(fortranOrderShape){
-						shape = new int[]{shape[1], shape[0]};
-					}
-					return toJavaList(values, shape[0], shape[1]);
-				default:
-					throw new IllegalArgumentException();
+			if(shape.length < 2){
+				return values;
+			} // End if
+
+			if(fortranOrderShape){
+				shape = Ints.toArray(Lists.reverse(Ints.asList(shape)));
 			}
+
+			return StridedList.forFortranOrder(values, shape);
 		}
 
 		return values;
 	}
 
 	/**
-	 * Translates a column-major (ie. Fortran-type) array to a row-major (ie. C-type) array.
+	 * @return The shape of a multi-dimensional column-major (ie. Fortran-type) array, or <code>null</code>.
 	 */
 	static
-	private <E> List<E> toJavaList(List<E> values, int rows, int columns){
-		List<E> result = new ArrayList<>(values.size());
+	private int[] getFortranOrderShape(NDArray array){
+		boolean fortranOrder = array.getFortranOrder();
 
-		for(int i = 0; i < values.size(); i++){
-			int row = i / columns;
-			int column = i % columns;
+		if(fortranOrder){
+			int[] shape = getShape(array);
 
-			E value = values.get((column * rows) + row);
+			if(shape.length < 2){
+				return null;
+			}
 
-			result.add(value);
+			return shape;
 		}
 
-		return result;
+		return null;
 	}
 
 	/**
 	 * https://numpy.org/doc/stable/reference/generated/numpy.lib.format.html
+	 *
+	 * @see NpyReader
 	 */
 	static
 	public NDArray parseNpy(InputStream is) throws IOException {
-		byte[] magicBytes = is.readNBytes(MAGIC_STRING.length);
-
-		if(!Arrays.equals(magicBytes, MAGIC_STRING)){
-			throw new IOException();
-		}
-
-		int majorVersion = readUnsignedByte(is);
-		int minorVersion = readUnsignedByte(is);
-
-		if(majorVersion != 1 || minorVersion != 0){
-			throw new IOException();
-		}
-
-		int headerLength = readUnsignedShort(is, ByteOrder.LITTLE_ENDIAN);
-
-		if(headerLength < 0){
-			throw new IOException();
-		}
-
-		byte[] headerBytes = is.readNBytes(headerLength);
-
-		String header = new String(headerBytes);
+		NpyReader reader = new NpyReader(is);
 
-		// Remove trailing whitespace
-		header = header.trim();
-
-		Map<String, ?> headerDict = parseDict(header);
-
-		Object descr = headerDict.get("descr");
-		Boolean fortranOrder = (Boolean)headerDict.get("fortran_order");
-		Object[] shape = (Object[])headerDict.get("shape");
-
-		byte[] data = is.readAllBytes();
-
-		NDArray array = new NDArray();
-		array.__setstate__(new Object[]{Arrays.asList(majorVersion, minorVersion), shape, descr, fortranOrder, data});
-
-		return array;
+		return reader.readArray();
 	}
 
 	static
@@ -184,6 +314,25 @@ public class NDArrayUtil {
 
 	static
 	public Object parseData(InputStream is, Object descr, Object[] shape, Integer numpyArrayAlignmentBytes) throws IOException {
+		Object values = parseValues(is, descr, shape, numpyArrayAlignmentBytes);
+
+		if(isPrimitiveArray(values)){
+			return asList(values);
+		}
+
+		return values;
+	}
+
+	/**
+	 * <p>
+	 * Parses the payload.
+	 * Simple boolean and numeric arrays are decoded into primitive Java arrays, whereas all other arrays are decoded into Java lists (or maps in case of structured arrays).
+	 * </p>
+	 *
+	 * @see #isPrimitiveArray(Object)
+	 */
+	static
+	public Object parseValues(InputStream is, Object descr, Object[] shape, Integer numpyArrayAlignmentBytes) throws IOException {
 		boolean simple = false;
 
 		Integer wSize = null;
@@ -196,13 +345,15 @@ public class NDArrayUtil {
 			wSize = dtype.getWSize();
 		}
 
-		int length = 1;
-
-		for(int i = 0; i < shape.length; i++){
-			length *= ValueUtil.asInt((Number)shape[i]);
-		} // End if
+		int length = getLength(shape);
 
 		if(simple){
+			TypeDescriptor descriptor = new TypeDescriptor(descr);
+
+			if(descriptor.isPrimitive()){
+				return parsePrimitiveArray(is, descriptor, length, numpyArrayAlignmentBytes);
+			}
+
 			return parseArray(is, descr, length, numpyArrayAlignmentBytes);
 		} else
 
@@ -229,12 +380,143 @@ public class NDArrayUtil {
 		}
 	}
 
+	/**
+	 * Parses the payload of an array.
+	 * Simple boolean or numeric arrays are decoded directly from the buffer, other arrays are decoded from a copy of it.
+	 *
+	 * @param buffer The payload, as returned by {@link #readData(InputStream, Object, Object[], Integer)},
+	 * or as supplied out-of-band to {@link PythonUnpickler#setBuffers(Iterable)}.
+	 */
 	static
-	public List<Object> parseArray(InputStream is, Object descr, int length, Integer numpyArrayAlignmentBytes) throws IOException {
-		List<Object> result = new ArrayList<>(length);
+	public Object parseValues(ByteBuffer buffer, Object descr, Object[] shape){
+		TypeDescriptor descriptor = toPrimitiveDescriptor(descr);
+
+		if(descriptor != null){
+			return descriptor.readArray(buffer.duplicate(), getLength(shape));
+		}
+
+		byte[] bytes = new byte[buffer.remaining()];
+
+		buffer.duplicate().get(bytes);
+
+		try(InputStream is = new ByteArrayInputStream(bytes)){
+			return parseValues(is, descr, shape, null);
+		} catch(IOException ioe){
+			throw new RuntimeException(ioe);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Reads the payload of a simple boolean or numeric array, without decoding it.
+	 * If the input stream is a {@link MappedInputStream}, then the payload is sliced from the underlying mapping without copying it.
+	 * </p>
+	 *
+	 * @return A read-only buffer, or <code>null</code> if the array is not a simple boolean or numeric array.
+	 *
+	 * @see #parseValues(ByteBuffer, Object, Object[])
+	 */
+	static
+	public ByteBuffer readData(InputStream is, Object descr, Object[] shape, Integer numpyArrayAlignmentBytes) throws IOException {
+		TypeDescriptor descriptor = toPrimitiveDescriptor(descr);
+
+		if(descriptor == null){
+			return null;
+		}
+
+		int length = getLength(shape);
+
+		if(numpyArrayAlignmentBytes != null){
+			skipPadding(is, numpyArrayAlignmentBytes);
+		}
+
+		int size = Math.multiplyExact(length, descriptor.getSize());
+
+		if(is instanceof MappedInputStream){
+			MappedInputStream mappedIs = (MappedInputStream)is;
+
+			return mappedIs.readBuffer(size);
+		}
+
+		ByteBuffer result = ByteBuffer.wrap(readBytes(is, size));
+
+		return result.asReadOnlyBuffer();
+	}
+
+	/**
+	 * <p>
+	 * Skips over the payload of a simple boolean or numeric array, without reading or decoding it.
+	 * </p>
+	 *
+	 * @param file The file that is being read by the input stream.
+	 *
+	 * @return The location of the payload, or <code>null</code> if the array is not a simple boolean or numeric array.
+	 *
+	 * @see FileRegion#read()
+	 */
+	static
+	public FileRegion skipData(FileInputStream is, File file, Object descr, Object[] shape, Integer numpyArrayAlignmentBytes) throws IOException {
+		TypeDescriptor descriptor = toPrimitiveDescriptor(descr);
+
+		if(descriptor == null){
+			return null;
+		}
+
+		int length = getLength(shape);
+
+		if(numpyArrayAlignmentBytes != null){
+			skipPadding(is, numpyArrayAlignmentBytes);
+		}
+
+		int size = Math.multiplyExact(length, descriptor.getSize());
+
+		FileChannel channel = is.getChannel();
+
+		long position = channel.position();
+
+		if((position + size) > channel.size()){
+			throw new EOFException();
+		}
+
+		channel.position(position + size);
+
+		return new FileRegion(file, position, size);
+	}
+
+	static
+	private TypeDescriptor toPrimitiveDescriptor(Object descr){
 
+		if(!(descr instanceof DType)){
+			return null;
+		}
+
+		DType dtype = (DType)descr;
+
+		if(dtype.hasValues()){
+			return null;
+		}
+
+		TypeDescriptor descriptor = new TypeDescriptor(dtype);
+
+		if(!descriptor.isPrimitive()){
+			return null;
+		}
+
+		return descriptor;
+	}
+
+	static
+	public List<Object> parseArray(InputStream is, Object descr, int length, Integer numpyArrayAlignmentBytes) throws IOException {
 		TypeDescriptor descriptor = new TypeDescriptor(descr);
 
+		if(descriptor.isPrimitive()){
+			Object values = parsePrimitiveArray(is, descriptor, length, numpyArrayAlignmentBytes);
+
+			return (List)asList(values);
+		}
+
+		List<Object> result = new ArrayList<>(length);
+
 		if(descriptor.isObject()){
 			// Ignored
 		} else
@@ -264,6 +546,16 @@ public class NDArrayUtil {
 		return result;
 	}
 
+	static
+	private Object parsePrimitiveArray(InputStream is, TypeDescriptor descriptor, int length, Integer numpyArrayAlignmentBytes) throws IOException {
+
+		if(numpyArrayAlignmentBytes != null){
+			skipPadding(is, numpyArrayAlignmentBytes);
+		}
+
+		return descriptor.readArray(is, length);
+	}
+
 	static
 	public List<Object[]> parseMultiArray(InputStream is, List<Object> descrs, int length, Integer wSize, Integer numpyArrayAlignmentBytes) throws IOException {
 		List<Object[]> result = new ArrayList<>(length);
@@ -328,6 +620,173 @@ public class NDArrayUtil {
 		return result;
 	}
 
+	static
+	public boolean isPrimitiveArray(Object values){
+
+		if(values == null){
+			return false;
+		}
+
+		Class<?> clazz = values.getClass();
+
+		return clazz.isArray() && (clazz.getComponentType()).isPrimitive();
+	}
+
+	/**
+	 * Wraps a primitive Java array into a fixed-size list.
+	 * The list boxes elements on access, and writes through to the array.
+	 */
+	static
+	public List<?> asList(Object values){
+
+		if(values instanceof boolean[]){
+			return Booleans.asList((boolean[])values);
+		} else
+
+		if(values instanceof byte[]){
+			return Bytes.asList((byte[])values);
+		} else
+
+		if(values instanceof short[]){
+			return Shorts.asList((short[])values);
+		} else
+
+		if(values instanceof int[]){
+			return Ints.asList((int[])values);
+		} else
+
+		if(values instanceof long[]){
+			return Longs.asList((long[])values);
+		} else
+
+		if(values instanceof float[]){
+			return Floats.asList((float[])values);
+		} else
+
+		if(values instanceof double[]){
+			return Doubles.asList((double[])values);
+		}
+
+		throw new IllegalArgumentException(ClassDictUtil.formatClass(values));
+	}
+
+	/**
+	 * @return The argument <code>double[]</code> array as-is, or a widened copy of some other numeric array.
+	 */
+	static
+	public double[] toDoubleArray(Object values){
+
+		if(values instanceof double[]){
+			return (double[])values;
+		} else
+
+		if(values instanceof float[]){
+			float[] floatValues = (float[])values;
+
+			double[] result = new double[floatValues.length];
+
+			for(int i = 0; i < floatValues.length; i++){
+				result[i] = floatValues[i];
+			}
+
+			return result;
+		} else
+
+		if(values instanceof byte[] || values instanceof short[] || values instanceof int[] || values instanceof long[]){
+			long[] longValues = toLongArray(values);
+
+			double[] result = new double[longValues.length];
+
+			for(int i = 0; i < longValues.length; i++){
+				result[i] = longValues[i];
+			}
+
+			return result;
+		} else
+
+		if(values instanceof List){
+			List<? extends Number> numberValues = (List<? extends Number>)values;
+
+			return Doubles.toArray(numberValues);
+		}
+
+		throw new IllegalArgumentException(ClassDictUtil.formatClass(values));
+	}
+
+	/**
+	 * @return The argument <code>long[]</code> array as-is, or a widened copy of some other integer array.
+	 */
+	static
+	public long[] toLongArray(Object values){
+
+		if(values instanceof long[]){
+			return (long[])values;
+		} else
+
+		if(values instanceof int[]){
+			int[] intValues = (int[])values;
+
+			long[] result = new long[intValues.length];
+
+			for(int i = 0; i < intValues.length; i++){
+				result[i] = intValues[i];
+			}
+
+			return result;
+		} else
+
+		if(values instanceof short[]){
+			short[] shortValues = (short[])values;
+
+			long[] result = new long[shortValues.length];
+
+			for(int i = 0; i < shortValues.length; i++){
+				result[i] = shortValues[i];
+			}
+
+			return result;
+		} else
+
+		if(values instanceof byte[]){
+			byte[] byteValues = (byte[])values;
+
+			long[] result = new long[byteValues.length];
+
+			for(int i = 0; i < byteValues.length; i++){
+				result[i] = byteValues[i];
+			}
+
+			return result;
+		} else
+
+		if(values instanceof List){
+			List<? extends Number> numberValues = (List<? extends Number>)values;
+
+			return Longs.toArray(numberValues);
+		}
+
+		throw new IllegalArgumentException(ClassDictUtil.formatClass(values));
+	}
+
+	/**
+	 * @return The argument <code>boolean[]</code> array as-is.
+	 */
+	static
+	public boolean[] toBooleanArray(Object values){
+
+		if(values instanceof boolean[]){
+			return (boolean[])values;
+		} else
+
+		if(values instanceof List){
+			List<Boolean> booleanValues = (List<Boolean>)values;
+
+			return Booleans.toArray(booleanValues);
+		}
+
+		throw new IllegalArgumentException(ClassDictUtil.formatClass(values));
+	}
+
 	static
 	public Map<String, ?> parseDict(String string){
 		Parser parser = new Parser();
@@ -337,6 +796,22 @@ public class NDArrayUtil {
 		return (Map<String, ?>)ast.getData();
 	}
 
+	/**
+	 * Reads exactly the specified number of bytes.
+	 *
+	 * @throws EOFException If the stream ends prematurely.
+	 */
+	static
+	public byte[] readBytes(InputStream is, int size) throws IOException {
+		byte[] buffer = is.readNBytes(size);
+
+		if(buffer.length != size){
+			throw new EOFException();
+		}
+
+		return buffer;
+	}
+
 	static
 	public byte readByte(InputStream is) throws IOException {
 		int b = is.read();
@@ -495,6 +970,17 @@ public class NDArrayUtil {
 		}
 	}
 
+	static
+	public int getLength(Object[] shape){
+		int length = 1;
+
+		for(int i = 0; i < shape.length; i++){
+			length = Math.multiplyExact(length, ValueUtil.asInt((Number)shape[i]));
+		}
+
+		return length;
+	}
+
 	static
 	private int toShortInt(byte b1, byte b2){
 		return ((b1 & 0xFF) << 8) + (b2 & 0xFF);
@@ -511,6 +997,4 @@ public class NDArrayUtil {
 
 		return string;
 	}
-
-	private static final byte[] MAGIC_STRING = {(byte)'\u0093', 'N', 'U', 'M', 'P', 'Y'};
 }
\ No newline at end of file
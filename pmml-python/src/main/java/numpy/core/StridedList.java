@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package numpy.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * <p>
+ * A random-access row-major (ie. C-type) view of a multi-dimensional array.
+ * </p>
+ *
+ * <p>
+ * The view is defined by a shape, element strides and an element offset into a flat backing list.
+ * Selecting a row or a column, and transposing, are O(1) operations that return a new view over the same backing list.
+ * </p>
+ */
+public class StridedList<E> extends AbstractList<E> implements RandomAccess {
+
+	private List<E> values = null;
+
+	private int[] shape = null;
+
+	private int[] strides = null;
+
+	private int offset = 0;
+
+	private int size = 0;
+
+
+	public StridedList(List<E> values, int[] shape, int[] strides, int offset){
+		setValues(values);
+		setShape(shape);
+		setStrides(strides);
+		setOffset(offset);
+
+		if(shape.length != strides.length){
+			throw new IllegalArgumentException("Expected " + shape.length + " strides, got " + strides.length);
+		}
+
+		int size = 1;
+
+		for(int i = 0; i < shape.length; i++){
+			size = Math.multiplyExact(size, shape[i]);
+		}
+
+		this.size = size;
+	}
+
+	@Override
+	public E get(int index){
+		List<E> values = getValues();
+
+		return values.get(getPosition(index));
+	}
+
+	@Override
+	public E set(int index, E value){
+		List<E> values = getValues();
+
+		return values.set(getPosition(index), value);
+	}
+
+	@Override
+	public int size(){
+		return this.size;
+	}
+
+	/**
+	 * Translates a row-major index of this view to a position in the backing list.
+	 */
+	public int getPosition(int index){
+		int[] shape = getShape();
+		int[] strides = getStrides();
+
+		Objects.checkIndex(index, this.size);
+
+		int result = getOffset();
+
+		for(int i = shape.length - 1; i > 0; i--){
+			int dimension = shape[i];
+
+			result += (index % dimension) * strides[i];
+
+			index /= dimension;
+		}
+
+		if(shape.length > 0){
+			result += index * strides[0];
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return A view with the order of dimensions reversed.
+	 */
+	public StridedList<E> transpose(){
+		int[] shape = reverse(getShape());
+		int[] strides = reverse(getStrides());
+
+		return new StridedList<>(getValues(), shape, strides, getOffset());
+	}
+
+	/**
+	 * @param axis The dimension.
+	 * @param index The position along the dimension.
+	 *
+	 * @return A view with one less dimension.
+	 */
+	public StridedList<E> slice(int axis, int index){
+		int[] shape = getShape();
+		int[] strides = getStrides();
+
+		Objects.checkIndex(axis, shape.length);
+		Objects.checkIndex(index, shape[axis]);
+
+		int[] sliceShape = remove(shape, axis);
+		int[] sliceStrides = remove(strides, axis);
+
+		return new StridedList<>(getValues(), sliceShape, sliceStrides, getOffset() + index * strides[axis]);
+	}
+
+	public StridedList<E> getRow(int row){
+		return slice(0, row);
+	}
+
+	public StridedList<E> getColumn(int column){
+		return slice(1, column);
+	}
+
+	public List<E> getValues(){
+		return this.values;
+	}
+
+	private void setValues(List<E> values){
+		this.values = Objects.requireNonNull(values);
+	}
+
+	public int[] getShape(){
+		return this.shape;
+	}
+
+	private void setShape(int[] shape){
+		this.shape = shape.clone();
+	}
+
+	public int[] getStrides(){
+		return this.strides;
+	}
+
+	private void setStrides(int[] strides){
+		this.strides = strides.clone();
+	}
+
+	public int getOffset(){
+		return this.offset;
+	}
+
+	private void setOffset(int offset){
+		this.offset = offset;
+	}
+
+	/**
+	 * @param shape The shape of the array.
+	 */
+	static
+	public <E> StridedList<E> forCOrder(List<E> values, int[] shape){
+		return new StridedList<>(values, shape, toCOrderStrides(shape), 0);
+	}
+
+	/**
+	 * @param shape The shape of the array.
+	 */
+	static
+	public <E> StridedList<E> forFortranOrder(List<E> values, int[] shape){
+		return new StridedList<>(values, shape, toFortranOrderStrides(shape), 0);
+	}
+
+	static
+	public int[] toCOrderStrides(int[] shape){
+		int[] result = new int[shape.length];
+
+		int stride = 1;
+
+		for(int i = shape.length - 1; i > -1; i--){
+			result[i] = stride;
+
+			stride = Math.multiplyExact(stride, shape[i]);
+		}
+
+		return result;
+	}
+
+	static
+	public int[] toFortranOrderStrides(int[] shape){
+		int[] result = new int[shape.length];
+
+		int stride = 1;
+
+		for(int i = 0; i < shape.length; i++){
+			result[i] = stride;
+
+			stride = Math.multiplyExact(stride, shape[i]);
+		}
+
+		return result;
+	}
+
+	static
+	private int[] reverse(int[] values){
+		int[] result = new int[values.length];
+
+		for(int i = 0; i < values.length; i++){
+			result[i] = values[values.length - 1 - i];
+		}
+
+		return result;
+	}
+
+	static
+	private int[] remove(int[] values, int index){
+		int[] result = Arrays.copyOf(values, values.length - 1);
+
+		System.arraycopy(values, index + 1, result, index, values.length - 1 - index);
+
+		return result;
+	}
+}
@@ -20,7 +20,11 @@ package numpy.core;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
 import java.util.Calendar;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
@@ -367,6 +371,232 @@ public class TypeDescriptor {
 		throw new IllegalArgumentException(descr);
 	}
 
+	/**
+	 * Reads the specified number of elements into a primitive Java array.
+	 *
+	 * <p>
+	 * The payload is read in one go, and then decoded in bulk using a {@link ByteBuffer} view.
+	 * </p>
+	 *
+	 * @see #isPrimitive()
+	 */
+	public Object readArray(InputStream is, int length) throws IOException {
+		String descr = getDescr();
+		int size = getSize();
+
+		if(!isPrimitive()){
+			throw new IllegalArgumentException(descr);
+		}
+
+		byte[] bytes = NDArrayUtil.readBytes(is, Math.multiplyExact(length, size));
+
+		return readArray(ByteBuffer.wrap(bytes), length);
+	}
+
+	/**
+	 * Reads the specified number of elements into a primitive Java array.
+	 *
+	 * <p>
+	 * The payload is read starting from the current position of the buffer.
+	 * The byte order of the buffer is ignored.
+	 * </p>
+	 *
+	 * @see #isPrimitive()
+	 */
+	public Object readArray(ByteBuffer buffer, int length){
+		String descr = getDescr();
+		TypeDescriptor.Kind kind = getKind();
+		ByteOrder byteOrder = getByteOrder();
+		int size = getSize();
+
+		if(!isPrimitive()){
+			throw new IllegalArgumentException(descr);
+		}
+
+		int byteLength = Math.multiplyExact(length, size);
+
+		if(buffer.remaining() < byteLength){
+			throw new BufferUnderflowException();
+		}
+
+		ByteBuffer view = buffer.slice()
+			.limit(byteLength);
+
+		buffer.position(buffer.position() + byteLength);
+
+		switch(size){
+			case 1:
+				{
+					switch(kind){
+						case BOOLEAN:
+							{
+								boolean[] result = new boolean[length];
+
+								for(int i = 0; i < length; i++){
+									result[i] = (view.get(i) == 1);
+								}
+
+								return result;
+							}
+						case INTEGER:
+							{
+								byte[] result = new byte[length];
+
+								view.get(result);
+
+								return result;
+							}
+						case UNSIGNED_INTEGER:
+							{
+								int[] result = new int[length];
+
+								for(int i = 0; i < length; i++){
+									result[i] = Byte.toUnsignedInt(view.get(i));
+								}
+
+								return result;
+							}
+						default:
+							break;
+					}
+				}
+				break;
+			default:
+				break;
+		}
+
+		if(byteOrder == null){
+			throw new IllegalArgumentException(descr);
+		}
+
+		view.order(byteOrder);
+
+		switch(kind){
+			case INTEGER:
+				{
+					switch(size){
+						case 2:
+							{
+								short[] result = new short[length];
+
+								(view.asShortBuffer()).get(result);
+
+								return result;
+							}
+						case 4:
+							{
+								int[] result = new int[length];
+
+								(view.asIntBuffer()).get(result);
+
+								return result;
+							}
+						case 8:
+							{
+								long[] result = new long[length];
+
+								(view.asLongBuffer()).get(result);
+
+								return result;
+							}
+						default:
+							break;
+					}
+				}
+				break;
+			case UNSIGNED_INTEGER:
+				{
+					switch(size){
+						case 2:
+							{
+								ShortBuffer shortBuffer = view.asShortBuffer();
+
+								int[] result = new int[length];
+
+								for(int i = 0; i < length; i++){
+									result[i] = Short.toUnsignedInt(shortBuffer.get(i));
+								}
+
+								return result;
+							}
+						case 4:
+							{
+								IntBuffer intBuffer = view.asIntBuffer();
+
+								long[] result = new long[length];
+
+								for(int i = 0; i < length; i++){
+									result[i] = Integer.toUnsignedLong(intBuffer.get(i));
+								}
+
+								return result;
+							}
+						case 8:
+							{
+								long[] result = new long[length];
+
+								(view.asLongBuffer()).get(result);
+
+								return result;
+							}
+						default:
+							break;
+					}
+				}
+				break;
+			case FLOAT:
+				{
+					switch(size){
+						case 4:
+							{
+								float[] result = new float[length];
+
+								(view.asFloatBuffer()).get(result);
+
+								return result;
+							}
+						case 8:
+							{
+								double[] result = new double[length];
+
+								(view.asDoubleBuffer()).get(result);
+
+								return result;
+							}
+						default:
+							break;
+					}
+				}
+				break;
+			default:
+				break;
+		}
+
+		throw new IllegalArgumentException(descr);
+	}
+
+	/**
+	 * Checks if the elements of this type can be read into a primitive Java array.
+	 *
+	 * @see #readArray(InputStream, int)
+	 */
+	public boolean isPrimitive(){
+		TypeDescriptor.Kind kind = getKind();
+		int size = getSize();
+
+		switch(kind){
+			case BOOLEAN:
+				return (size == 1);
+			case INTEGER:
+			case UNSIGNED_INTEGER:
+				return (size == 1 || size == 2 || size == 4 || size == 8);
+			case FLOAT:
+				return (size == 4 || size == 8);
+			default:
+				return false;
+		}
+	}
+
 	public boolean isObject(){
 		TypeDescriptor.Kind kind = getKind();
 
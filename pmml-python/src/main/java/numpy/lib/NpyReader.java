@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package numpy.lib;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import com.google.common.primitives.UnsignedLong;
+import numpy.core.NDArray;
+import numpy.core.NDArrayUtil;
+import numpy.core.TypeDescriptor;
+import org.jpmml.converter.ValueUtil;
+
+/**
+ * <p>
+ * A streaming reader for the Numpy binary file format (versions 1.0, 2.0 and 3.0).
+ * </p>
+ *
+ * <p>
+ * The header is read eagerly upon construction.
+ * The payload is read exactly once, either as a whole using {@link #readArray()},
+ * or in chunks of rows using {@link #readDoubleChunks(int)}.
+ * </p>
+ *
+ * @see <a href="https://numpy.org/doc/stable/reference/generated/numpy.lib.format.html">numpy.lib.format</a>
+ */
+public class NpyReader implements Closeable {
+
+	private InputStream is = null;
+
+	private int majorVersion = 0;
+
+	private int minorVersion = 0;
+
+	private Object descr = null;
+
+	private Boolean fortranOrder = null;
+
+	private Object[] shape = null;
+
+	private boolean consumed = false;
+
+
+	public NpyReader(InputStream is) throws IOException {
+		this.is = is;
+
+		readHeader();
+	}
+
+	/**
+	 * <p>
+	 * Reads the payload as a whole.
+	 * </p>
+	 */
+	public NDArray readArray() throws IOException {
+		ensureUnconsumed();
+
+		byte[] data;
+
+		TypeDescriptor descriptor = getPrimitiveDescriptor();
+		if(descriptor != null){
+			data = NDArrayUtil.readBytes(this.is, Math.multiplyExact(getLength(), descriptor.getSize()));
+		} else
+
+		{
+			data = this.is.readAllBytes();
+		}
+
+		NDArray array = new NDArray();
+		array.__setstate__(new Object[]{Arrays.asList(this.majorVersion, this.minorVersion), this.shape, this.descr, this.fortranOrder, data});
+
+		return array;
+	}
+
+	/**
+	 * <p>
+	 * Reads the payload of a simple numeric array in chunks of rows.
+	 * </p>
+	 *
+	 * <p>
+	 * Each chunk holds up to <code>rows</code> rows in row-major order, widened to <code>double</code>.
+	 * The size of a row is the product of all but the first dimension.
+	 * </p>
+	 *
+	 * @throws IllegalStateException If the array is not a simple numeric array, or is a multi-dimensional Fortran-order array.
+	 */
+	public Iterator<double[]> readDoubleChunks(int rows){
+
+		if(rows <= 0){
+			throw new IllegalArgumentException();
+		}
+
+		TypeDescriptor descriptor = getPrimitiveDescriptor();
+		if(descriptor == null || descriptor.getKind() == TypeDescriptor.Kind.BOOLEAN){
+			throw new IllegalStateException("Array with data type " + this.descr + " cannot be read in chunks");
+		}
+
+		Object[] shape = this.shape;
+
+		if((Boolean.TRUE).equals(this.fortranOrder) && shape.length > 1){
+			throw new IllegalStateException("Fortran-order array cannot be read in chunks");
+		}
+
+		ensureUnconsumed();
+
+		int rowCount = (shape.length > 0 ? ValueUtil.asInt((Number)shape[0]) : 1);
+		int rowSize = (shape.length > 0 ? NDArrayUtil.getLength(Arrays.copyOfRange(shape, 1, shape.length)) : 1);
+
+		// The u8 type is read as a long[] array of raw bits
+		boolean unsignedLong = (descriptor.getKind() == TypeDescriptor.Kind.UNSIGNED_INTEGER) && (descriptor.getSize() == 8);
+
+		InputStream is = this.is;
+
+		Iterator<double[]> result = new Iterator<double[]>(){
+
+			private int position = 0;
+
+
+			@Override
+			public boolean hasNext(){
+				return (this.position < rowCount);
+			}
+
+			@Override
+			public double[] next(){
+
+				if(!hasNext()){
+					throw new NoSuchElementException();
+				}
+
+				int count = Math.min(rows, rowCount - this.position);
+
+				Object values;
+
+				try {
+					values = descriptor.readArray(is, Math.multiplyExact(count, rowSize));
+				} catch(IOException ioe){
+					throw new RuntimeException(ioe);
+				}
+
+				this.position += count;
+
+				if(unsignedLong){
+					return toUnsignedDoubleArray((long[])values);
+				}
+
+				return NDArrayUtil.toDoubleArray(values);
+			}
+		};
+
+		return result;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.is.close();
+	}
+
+	public int getMajorVersion(){
+		return this.majorVersion;
+	}
+
+	public int getMinorVersion(){
+		return this.minorVersion;
+	}
+
+	public Object getDescr(){
+		return this.descr;
+	}
+
+	public Boolean getFortranOrder(){
+		return this.fortranOrder;
+	}
+
+	public Object[] getShape(){
+		return this.shape;
+	}
+
+	public int getLength(){
+		return NDArrayUtil.getLength(this.shape);
+	}
+
+	private void readHeader() throws IOException {
+		InputStream is = this.is;
+
+		byte[] magicBytes = is.readNBytes(NpyReader.MAGIC_STRING.length);
+
+		if(!Arrays.equals(magicBytes, NpyReader.MAGIC_STRING)){
+			throw new IOException("Not a Numpy binary file");
+		}
+
+		int majorVersion = NDArrayUtil.readUnsignedByte(is);
+		int minorVersion = NDArrayUtil.readUnsignedByte(is);
+
+		int headerLength;
+
+		Charset charset;
+
+		switch(majorVersion){
+			case 1:
+				headerLength = NDArrayUtil.readUnsignedShort(is, ByteOrder.LITTLE_ENDIAN);
+				charset = StandardCharsets.ISO_8859_1;
+				break;
+			case 2:
+				headerLength = NDArrayUtil.readInt(is, ByteOrder.LITTLE_ENDIAN);
+				charset = StandardCharsets.ISO_8859_1;
+				break;
+			case 3:
+				headerLength = NDArrayUtil.readInt(is, ByteOrder.LITTLE_ENDIAN);
+				charset = StandardCharsets.UTF_8;
+				break;
+			default:
+				throw new IOException("Unsupported Numpy binary file format version " + majorVersion + "." + minorVersion);
+		}
+
+		if(minorVersion != 0 || headerLength < 0){
+			throw new IOException("Unsupported Numpy binary file format version " + majorVersion + "." + minorVersion);
+		}
+
+		byte[] headerBytes = NDArrayUtil.readBytes(is, headerLength);
+
+		String header = new String(headerBytes, charset);
+
+		// Remove trailing whitespace
+		header = header.trim();
+
+		Map<String, ?> headerDict = NDArrayUtil.parseDict(header);
+
+		this.majorVersion = majorVersion;
+		this.minorVersion = minorVersion;
+		this.descr = headerDict.get("descr");
+		this.fortranOrder = (Boolean)headerDict.get("fortran_order");
+		this.shape = (Object[])headerDict.get("shape");
+	}
+
+	private TypeDescriptor getPrimitiveDescriptor(){
+		Object descr = this.descr;
+
+		if(!(descr instanceof String)){
+			return null;
+		}
+
+		TypeDescriptor descriptor = new TypeDescriptor(descr);
+
+		if(!descriptor.isPrimitive()){
+			return null;
+		}
+
+		return descriptor;
+	}
+
+	private void ensureUnconsumed(){
+
+		if(this.consumed){
+			throw new IllegalStateException("Payload has already been read");
+		}
+
+		this.consumed = true;
+	}
+
+	static
+	private double[] toUnsignedDoubleArray(long[] values){
+		double[] result = new double[values.length];
+
+		for(int i = 0; i < values.length; i++){
+			result[i] = UnsignedLong.fromLongBits(values[i]).doubleValue();
+		}
+
+		return result;
+	}
+
+	private static final byte[] MAGIC_STRING = {(byte)'\u0093', 'N', 'U', 'M', 'P', 'Y'};
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package numpy.lib;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import numpy.core.NDArray;
+
+/**
+ * <p>
+ * A reader for Numpy zip archives, as created by <code>numpy.savez</code> and <code>numpy.savez_compressed</code>.
+ * </p>
+ *
+ * <p>
+ * Members are opened lazily, one at a time.
+ * </p>
+ *
+ * @see <a href="https://numpy.org/doc/stable/reference/generated/numpy.lib.npyio.NpzFile.html">numpy.lib.npyio.NpzFile</a>
+ */
+public class NpzFile implements Closeable {
+
+	private ZipFile zipFile = null;
+
+	private Map<String, ZipEntry> entries = new LinkedHashMap<>();
+
+
+	public NpzFile(File file) throws IOException {
+		this.zipFile = new ZipFile(file);
+
+		Enumeration<? extends ZipEntry> entries = this.zipFile.entries();
+
+		while(entries.hasMoreElements()){
+			ZipEntry entry = entries.nextElement();
+
+			if(entry.isDirectory()){
+				continue;
+			}
+
+			String name = entry.getName();
+
+			if(name.endsWith(NpzFile.EXTENSION)){
+				name = name.substring(0, name.length() - NpzFile.EXTENSION.length());
+			}
+
+			this.entries.put(name, entry);
+		}
+	}
+
+	public Set<String> keySet(){
+		return Collections.unmodifiableSet(this.entries.keySet());
+	}
+
+	public boolean containsKey(String key){
+		return this.entries.containsKey(key);
+	}
+
+	/**
+	 * <p>
+	 * Reads the named member as a whole.
+	 * </p>
+	 */
+	public NDArray get(String key) throws IOException {
+
+		try(NpyReader reader = open(key)){
+			return reader.readArray();
+		}
+	}
+
+	/**
+	 * <p>
+	 * Opens the named member for streaming.
+	 * The caller is responsible for closing the returned reader.
+	 * </p>
+	 */
+	public NpyReader open(String key) throws IOException {
+		ZipFile zipFile = ensureOpen();
+
+		ZipEntry entry = this.entries.get(key);
+		if(entry == null){
+			throw new IllegalArgumentException("Member " + key + " is not defined");
+		}
+
+		InputStream is = zipFile.getInputStream(entry);
+
+		try {
+			return new NpyReader(is);
+		} catch(IOException | RuntimeException e){
+			is.close();
+
+			throw e;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		try {
+			if(this.zipFile != null){
+				this.zipFile.close();
+			}
+		} finally {
+			this.zipFile = null;
+		}
+	}
+
+	private ZipFile ensureOpen() throws IOException {
+
+		if(this.zipFile == null){
+			throw new IOException();
+		}
+
+		return this.zipFile;
+	}
+
+	private static final String EXTENSION = ".npy";
+}
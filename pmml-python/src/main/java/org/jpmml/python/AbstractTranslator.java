@@ -19,6 +19,7 @@
 package org.jpmml.python;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,8 @@ import org.jpmml.converter.ObjectFeature;
 import org.jpmml.converter.PMMLEncoder;
 import org.jpmml.converter.SchemaException;
 import org.jpmml.converter.TypeUtil;
+import org.jpmml.python.ast.Def;
+import org.jpmml.python.ast.SyntaxTree;
 
 abstract
 public class AbstractTranslator implements FeatureResolver {
@@ -56,6 +59,10 @@ public class AbstractTranslator implements FeatureResolver {
 
 	private Map<String, String> moduleImports = new LinkedHashMap<>();
 
+	private TranslationCache translationCache = null;
+
+	private CommonSubexpressionEliminator commonSubexpressionEliminator = null;
+
 
 	public AbstractTranslator(){
 	}
@@ -227,7 +234,15 @@ public class AbstractTranslator implements FeatureResolver {
 					}
 				};
 
-				defineFunction = expressionTranslator.translateDef(functionDef.getString());
+				// Parsed once, and then translated once per encoder
+				SyntaxTree<Def> syntaxTree = functionDef.getSyntaxTree();
+				if(syntaxTree == null){
+					syntaxTree = expressionTranslator.parseDef(functionDef.getString());
+
+					functionDef.setSyntaxTree(syntaxTree);
+				}
+
+				defineFunction = expressionTranslator.translateDef(syntaxTree);
 			}
 
 			Apply apply = ExpressionUtil.createApply(defineFunction);
@@ -255,6 +270,63 @@ public class AbstractTranslator implements FeatureResolver {
 		return FunctionUtil.encodeFunction(module, name, expressions, encoder);
 	}
 
+	protected Expression eliminateCommonSubexpressions(Expression expression){
+		CommonSubexpressionEliminator commonSubexpressionEliminator = getCommonSubexpressionEliminator();
+
+		if(commonSubexpressionEliminator == null){
+			return expression;
+		}
+
+		return commonSubexpressionEliminator.eliminate(expression, this);
+	}
+
+	protected <E extends PMMLObject> E getCachedTranslation(Object key, Class<? extends E> clazz){
+		TranslationCache translationCache = getTranslationCache();
+
+		if(translationCache == null || key == null){
+			return null;
+		}
+
+		return translationCache.get(key, clazz);
+	}
+
+	protected void putCachedTranslation(Object key, PMMLObject object){
+		TranslationCache translationCache = getTranslationCache();
+
+		if(translationCache == null || key == null){
+			return;
+		}
+
+		translationCache.put(key, object);
+	}
+
+	/**
+	 * @return A cache key, or <code>null</code> if the translation result should not be cached.
+	 */
+	protected Object createCacheKey(String kind, String string){
+		TranslationCache translationCache = getTranslationCache();
+
+		if(translationCache == null){
+			return null;
+		}
+
+		Scope scope = ensureScope();
+
+		List<?> signature = scope.getSignature();
+		if(signature == null){
+			return null;
+		}
+
+		Map<String, FunctionDef> functionDefs = getFunctionDefs();
+		Map<String, String> imports = getModuleImports();
+
+		List<String> functionDefStrings = functionDefs.values().stream()
+			.map(FunctionDef::getString)
+			.collect(Collectors.toList());
+
+		return Arrays.asList(getClass(), kind, string, new LinkedHashMap<>(imports), functionDefStrings, signature);
+	}
+
 	protected DefineFunction createDefineFunction(String name, Type type, Expression expression){
 		PMMLEncoder encoder = ensureEncoder();
 
@@ -307,6 +379,37 @@ public class AbstractTranslator implements FeatureResolver {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Rebinds this translator to a new scope, and discards all registered function defs and module imports.
+	 * </p>
+	 *
+	 * <p>
+	 * The translation cache and the common subexpression eliminator, if any, are detached.
+	 * The latter is bound to a specific encoder, so it cannot be carried over to an unrelated scope.
+	 * It is reset before detaching, so that it stops referencing the translations of this translator.
+	 * </p>
+	 *
+	 * @see TranslatorPool
+	 */
+	public void reset(Scope scope){
+		Map<String, FunctionDef> functionDefs = getFunctionDefs();
+		Map<String, String> imports = getModuleImports();
+
+		setScope(scope);
+
+		functionDefs.clear();
+		imports.clear();
+
+		CommonSubexpressionEliminator commonSubexpressionEliminator = getCommonSubexpressionEliminator();
+		if(commonSubexpressionEliminator != null){
+			commonSubexpressionEliminator.reset();
+		}
+
+		setTranslationCache(null);
+		setCommonSubexpressionEliminator(null);
+	}
+
 	public Scope getScope(){
 		return this.scope;
 	}
@@ -323,6 +426,22 @@ public class AbstractTranslator implements FeatureResolver {
 		return this.moduleImports;
 	}
 
+	public TranslationCache getTranslationCache(){
+		return this.translationCache;
+	}
+
+	public void setTranslationCache(TranslationCache translationCache){
+		this.translationCache = translationCache;
+	}
+
+	public CommonSubexpressionEliminator getCommonSubexpressionEliminator(){
+		return this.commonSubexpressionEliminator;
+	}
+
+	public void setCommonSubexpressionEliminator(CommonSubexpressionEliminator commonSubexpressionEliminator){
+		this.commonSubexpressionEliminator = commonSubexpressionEliminator;
+	}
+
 	static
 	public String toSingleLine(String string){
 		return string
@@ -79,6 +79,13 @@ public class BlockScope extends Scope {
 		return super.resolveFeature(name);
 	}
 
+	@Override
+	public List<?> getSignature(){
+		List<? extends Feature> variables = getVariables();
+
+		return createSignature(this, variables);
+	}
+
 	public List<? extends Feature> getVariables(){
 		return this.variables;
 	}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+public class CategoricalArrayUtil {
+
+	private CategoricalArrayUtil(){
+	}
+
+	/**
+	 * @return A random-access view of category values.
+	 */
+	static
+	public List<?> getContent(CategoricalArray categoricalArray){
+		int[] codes = categoricalArray.getCategoryCodes();
+		List<?> values = categoricalArray.getCategoryValues();
+
+		return decode(codes, values);
+	}
+
+	/**
+	 * @param codes Category codes. Missing values are coded as <code>-1</code>.
+	 * @param values Category values.
+	 *
+	 * @return A random-access view.
+	 */
+	static
+	public <E> List<E> decode(int[] codes, List<E> values){
+		List<E> result = new DecodedList<>(codes, values);
+
+		return result;
+	}
+
+	static
+	private class DecodedList<E> extends AbstractList<E> implements RandomAccess {
+
+		private int[] codes = null;
+
+		private List<E> values = null;
+
+
+		private DecodedList(int[] codes, List<E> values){
+			this.codes = codes;
+			this.values = values;
+		}
+
+		@Override
+		public E get(int index){
+			int code = this.codes[index];
+
+			if(code == -1){
+				return null;
+			}
+
+			return this.values.get(code);
+		}
+
+		@Override
+		public int size(){
+			return this.codes.length;
+		}
+	}
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.dmg.pmml.Apply;
+import org.dmg.pmml.Constant;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.DerivedField;
+import org.dmg.pmml.Expression;
+import org.dmg.pmml.FieldRef;
+import org.dmg.pmml.InvalidValueTreatmentMethod;
+import org.jpmml.converter.ExpressionUtil;
+import org.jpmml.converter.FieldNameUtil;
+import org.jpmml.converter.PMMLEncoder;
+import org.jpmml.model.ReflectionUtil;
+
+/**
+ * <p>
+ * A common subexpression elimination pass, which spans all translations that share a PMML encoder.
+ * </p>
+ *
+ * <p>
+ * Every Apply subtree is hashed structurally.
+ * When a subtree is encountered for the second time, it is hoisted into a DerivedField,
+ * and both occurrences are replaced with field references.
+ * The first occurrence is replaced in place, which means that the results of earlier translations may be modified.
+ * If the first occurrence is the root of an earlier translation, then it stays inlined.
+ * </p>
+ *
+ * <p>
+ * Hoisting is global.
+ * Field references are keyed by field name only, and DerivedFields are registered with the encoder (ie. outside of any function body).
+ * Therefore, this pass must not be used with scopes whose features are function parameters (eg. {@link FunctionDefScope}),
+ * because a hoisted expression would refer to parameter fields that are not visible at the top level.
+ * </p>
+ *
+ * <p>
+ * Pending first occurrences keep the enclosing expression trees reachable.
+ * Their number is bounded, with the oldest occurrence being forgotten first.
+ * They can be discarded altogether using {@link #reset()}.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @see AbstractTranslator#setCommonSubexpressionEliminator(CommonSubexpressionEliminator)
+ */
+public class CommonSubexpressionEliminator {
+
+	private PMMLEncoder encoder = null;
+
+	private Map<Object, Occurrence> occurrences = null;
+
+	private Map<Object, String> names = new HashMap<>();
+
+
+	public CommonSubexpressionEliminator(PMMLEncoder encoder){
+		this(encoder, CommonSubexpressionEliminator.DEFAULT_MAX_OCCURRENCES);
+	}
+
+	/**
+	 * @param maxOccurrences The maximum number of pending first occurrences.
+	 */
+	public CommonSubexpressionEliminator(PMMLEncoder encoder, int maxOccurrences){
+		setEncoder(encoder);
+
+		if(maxOccurrences < 1){
+			throw new IllegalArgumentException("Expected a positive maximum number of occurrences, got " + maxOccurrences);
+		}
+
+		this.occurrences = new LinkedHashMap<Object, Occurrence>(){
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Occurrence> entry){
+				return size() > maxOccurrences;
+			}
+		};
+	}
+
+	public Expression eliminate(Expression expression, AbstractTranslator translator){
+		PMMLEncoder encoder = getEncoder();
+
+		PMMLEncoder translatorEncoder = translator.ensureEncoder();
+		if(translatorEncoder != encoder){
+			throw new IllegalArgumentException("Translator encoder " + formatEncoder(translatorEncoder) + " does not match eliminator encoder " + formatEncoder(encoder));
+		}
+
+		return eliminate(expression, null, -1, translator);
+	}
+
+	private Expression eliminate(Expression expression, Apply parent, int index, AbstractTranslator translator){
+
+		if(!(expression instanceof Apply)){
+			return expression;
+		}
+
+		Apply apply = (Apply)expression;
+
+		Object key = createKey(apply);
+		if(key == null){
+			eliminateChildren(apply, translator);
+
+			return apply;
+		}
+
+		String name = this.names.get(key);
+		if(name != null){
+			return new FieldRef(name);
+		}
+
+		Occurrence occurrence = this.occurrences.get(key);
+		if(occurrence == null){
+			this.occurrences.put(key, new Occurrence(apply, parent, index));
+
+			eliminateChildren(apply, translator);
+
+			return apply;
+		}
+
+		boolean relocatable = occurrence.isAttached();
+
+		// The children of the first occurrence have been processed already
+		if(!relocatable){
+			eliminateChildren(apply, translator);
+		}
+
+		DerivedField derivedField = hoist(relocatable ? occurrence.getApply() : apply, translator);
+		if(derivedField == null){
+
+			if(relocatable){
+				eliminateChildren(apply, translator);
+			}
+
+			return apply;
+		} // End if
+
+		if(relocatable){
+			occurrence.replace(new FieldRef(derivedField));
+		}
+
+		this.occurrences.remove(key);
+		this.names.put(key, derivedField.requireName());
+
+		return new FieldRef(derivedField);
+	}
+
+	/**
+	 * <p>
+	 * Discards all pending first occurrences, so that earlier translations are no longer referenced (nor modified).
+	 * </p>
+	 *
+	 * <p>
+	 * Already hoisted subexpressions stay known, and continue to be replaced with field references.
+	 * </p>
+	 *
+	 * @see AbstractTranslator#reset(Scope)
+	 */
+	public void reset(){
+		this.occurrences.clear();
+	}
+
+	private void eliminateChildren(Apply apply, AbstractTranslator translator){
+
+		if(!apply.hasExpressions()){
+			return;
+		}
+
+		List<Expression> expressions = apply.getExpressions();
+
+		for(int i = 0; i < expressions.size(); i++){
+			Expression expression = expressions.get(i);
+
+			expressions.set(i, eliminate(expression, apply, i, translator));
+		}
+	}
+
+	private DerivedField hoist(Apply apply, AbstractTranslator translator){
+		PMMLEncoder encoder = getEncoder();
+
+		DataType dataType = ExpressionUtil.getDataType(apply, translator);
+		if(dataType == null){
+			return null;
+		}
+
+		String name = formatName(apply);
+
+		if(encoder.getDataField(name) != null){
+			return null;
+		}
+
+		DerivedField derivedField = encoder.getDerivedField(name);
+		if(derivedField != null){
+			Expression expression = derivedField.getExpression();
+
+			// A PredicateTranslator encodes function invocations into identically named DerivedFields
+			if(ReflectionUtil.equals(apply, expression)){
+				return derivedField;
+			}
+
+			return null;
+		}
+
+		return translator.ensureDerivedField(name, null, apply);
+	}
+
+	public PMMLEncoder getEncoder(){
+		return this.encoder;
+	}
+
+	private void setEncoder(PMMLEncoder encoder){
+		this.encoder = Objects.requireNonNull(encoder);
+	}
+
+	/**
+	 * @return A structural key, or <code>null</code> if the expression cannot be deduplicated.
+	 */
+	static
+	private Object createKey(Expression expression){
+
+		if(expression instanceof Apply){
+			Apply apply = (Apply)expression;
+
+			if(!isPlain(apply)){
+				return null;
+			}
+
+			List<Object> result = new ArrayList<>();
+			result.add(Apply.class);
+			result.add(apply.requireFunction());
+
+			if(apply.hasExpressions()){
+				List<Expression> expressions = apply.getExpressions();
+
+				for(Expression child : expressions){
+					Object childKey = createKey(child);
+
+					if(childKey == null){
+						return null;
+					}
+
+					result.add(childKey);
+				}
+			}
+
+			return result;
+		} else
+
+		if(expression instanceof FieldRef){
+			FieldRef fieldRef = (FieldRef)expression;
+
+			if(fieldRef.getMapMissingTo() != null){
+				return null;
+			}
+
+			return Arrays.asList(FieldRef.class, fieldRef.requireField());
+		} else
+
+		if(expression instanceof Constant){
+			Constant constant = (Constant)expression;
+
+			return Arrays.asList(Constant.class, constant.getDataType(), constant.getValue(), constant.isMissing());
+		}
+
+		return null;
+	}
+
+	static
+	private String formatEncoder(PMMLEncoder encoder){
+		return (encoder.getClass()).getName() + "@" + Integer.toHexString(System.identityHashCode(encoder));
+	}
+
+	static
+	private String formatName(Expression expression){
+
+		if(expression instanceof Apply){
+			Apply apply = (Apply)expression;
+
+			List<String> arguments = new ArrayList<>();
+
+			if(apply.hasExpressions()){
+				List<Expression> expressions = apply.getExpressions();
+
+				for(Expression child : expressions){
+					arguments.add(formatName(child));
+				}
+			}
+
+			return FieldNameUtil.create(apply.requireFunction(), arguments);
+		} else
+
+		if(expression instanceof FieldRef){
+			FieldRef fieldRef = (FieldRef)expression;
+
+			return fieldRef.requireField();
+		} else
+
+		if(expression instanceof Constant){
+			Constant constant = (Constant)expression;
+
+			if(constant.isMissing()){
+				return "None";
+			}
+
+			return String.valueOf(constant.getValue());
+		}
+
+		throw new IllegalArgumentException();
+	}
+
+	static
+	private boolean isPlain(Apply apply){
+		return (apply.getDefaultValue() == null) && (apply.getMapMissingTo() == null) && (apply.getInvalidValueTreatment() == InvalidValueTreatmentMethod.RETURN_INVALID) && !apply.hasExtensions();
+	}
+
+	static
+	private class Occurrence {
+
+		private Apply apply = null;
+
+		private Apply parent = null;
+
+		private int index = -1;
+
+
+		private Occurrence(Apply apply, Apply parent, int index){
+			this.apply = apply;
+			this.parent = parent;
+			this.index = index;
+		}
+
+		/**
+		 * @return <code>true</code> if the occurrence is a proper subtree, and it is still present at its original location.
+		 */
+		boolean isAttached(){
+
+			if(this.parent == null){
+				return false;
+			}
+
+			List<Expression> expressions = this.parent.getExpressions();
+
+			return (this.index < expressions.size()) && (expressions.get(this.index) == this.apply);
+		}
+
+		void replace(Expression expression){
+			List<Expression> expressions = this.parent.getExpressions();
+
+			expressions.set(this.index, expression);
+		}
+
+		Apply getApply(){
+			return this.apply;
+		}
+	}
+
+	public static final int DEFAULT_MAX_OCCURRENCES = 1024;
+}
\ No newline at end of file
@@ -22,7 +22,8 @@ import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PushbackInputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPInputStream;
 
 import com.google.common.io.CountingInputStream;
 
@@ -33,7 +34,21 @@ public class CompressedInputStreamStorage extends InputStreamStorage {
 	}
 
 	public CompressedInputStreamStorage(PushbackInputStream is) throws IOException {
-		super(init(is));
+		this(is, null);
+	}
+
+	/**
+	 * @param executor If not <code>null</code>, then decompression is performed in a background task,
+	 * concurrently with the consumption of decompressed data.
+	 *
+	 * @see ReadAheadInputStream
+	 */
+	public CompressedInputStreamStorage(InputStream is, Executor executor) throws IOException {
+		this(new PushbackInputStream(is, 2), executor);
+	}
+
+	public CompressedInputStreamStorage(PushbackInputStream is, Executor executor) throws IOException {
+		super(init(is, executor));
 	}
 
 	static
@@ -42,35 +57,108 @@ public class CompressedInputStreamStorage extends InputStreamStorage {
 
 		is.unread(magic);
 
-		if(magic[0] == 'x'){
+		if(magic.length < 2){
+			return null;
+		}
+
+		int first = (magic[0] & 0xFF);
+		int second = (magic[1] & 0xFF);
+
+		// The first two bytes of the magic number are sufficient for telling apart supported formats
+		if(first == 'x'){
 			return Type.ZLIB;
 		} else
 
-		if(magic[0] == 'Z' && magic[1] == 'F'){
+		if(first == 'Z' && second == 'F'){
 			return Type.COMPAT;
+		} else
+
+		if(first == 0x1F && second == 0x8B){
+			return Type.GZIP;
+		} else
+
+		if(first == 'B' && second == 'Z'){
+			return Type.BZ2;
+		} else
+
+		if(first == 0xFD && second == '7'){
+			return Type.XZ;
+		} else
+
+		if(first == 0x5D && second == 0x00){
+			return Type.LZMA;
+		} else
+
+		if(first == 0x04 && second == 0x22){
+			return Type.LZ4;
+		} else
+
+		if(first == 0x28 && second == 0xB5){
+			return Type.ZSTD;
 		}
 
 		return null;
 	}
 
 	static
-	private InputStream init(PushbackInputStream is) throws IOException {
+	private InputStream init(PushbackInputStream is, Executor executor) throws IOException {
 		Type type = detectType(is);
 
 		if(type == null){
 			throw new IOException("Input stream does not contain compressed data");
 		}
 
-		return type.init(is);
+		InputStream result = type.init(is);
+
+		if(executor != null){
+			result = new ReadAheadInputStream(result, executor);
+		}
+
+		return result;
 	}
 
 	static
 	private InputStream initZlib(PushbackInputStream is){
-		InflaterInputStream zlibIs = new InflaterInputStream(is);
+		ZlibInputStream zlibIs = new ZlibInputStream(is);
 
 		return zlibIs;
 	}
 
+	static
+	private InputStream initGzip(PushbackInputStream is) throws IOException {
+		GZIPInputStream gzipIs = new GZIPInputStream(is, 64 * 1024);
+
+		return gzipIs;
+	}
+
+	static
+	private InputStream initLz4(PushbackInputStream is){
+		Lz4FrameInputStream lz4Is = new Lz4FrameInputStream(is);
+
+		return lz4Is;
+	}
+
+	static
+	private InputStream initCommonsCompress(Type type, PushbackInputStream is) throws IOException {
+
+		try {
+			switch(type){
+				case BZ2:
+					return CompressorUtil.createBzip2InputStream(is);
+				case XZ:
+					return CompressorUtil.createXzInputStream(is);
+				case LZMA:
+					return CompressorUtil.createLzmaInputStream(is);
+				case ZSTD:
+					return CompressorUtil.createZstdInputStream(is);
+				default:
+					throw new IllegalArgumentException();
+			}
+		} catch(LinkageError le){
+			throw new IOException("Input stream contains " + type + " compressed data, which requires the Apache Commons Compress library (and its codec-specific dependencies) to be available", le);
+		}
+	}
+
 	static
 	private InputStream initCompat(PushbackInputStream is) throws IOException {
 		byte[] headerBytes = is.readNBytes(2 + 19);
@@ -97,7 +185,7 @@ public class CompressedInputStreamStorage extends InputStreamStorage {
 			is.unread(firstByte);
 		}
 
-		InflaterInputStream zlibIs = new InflaterInputStream(is);
+		ZlibInputStream zlibIs = new ZlibInputStream(is);
 
 		InputStream result = new FilterInputStream(new CountingInputStream(zlibIs)){
 
@@ -145,6 +233,48 @@ public class CompressedInputStreamStorage extends InputStreamStorage {
 				return initCompat(is);
 			}
 		},
+		GZIP(){
+
+			@Override
+			public InputStream init(PushbackInputStream is) throws IOException {
+				return initGzip(is);
+			}
+		},
+		BZ2(){
+
+			@Override
+			public InputStream init(PushbackInputStream is) throws IOException {
+				return initCommonsCompress(this, is);
+			}
+		},
+		XZ(){
+
+			@Override
+			public InputStream init(PushbackInputStream is) throws IOException {
+				return initCommonsCompress(this, is);
+			}
+		},
+		LZMA(){
+
+			@Override
+			public InputStream init(PushbackInputStream is) throws IOException {
+				return initCommonsCompress(this, is);
+			}
+		},
+		LZ4(){
+
+			@Override
+			public InputStream init(PushbackInputStream is) throws IOException {
+				return initLz4(is);
+			}
+		},
+		ZSTD(){
+
+			@Override
+			public InputStream init(PushbackInputStream is) throws IOException {
+				return initCommonsCompress(this, is);
+			}
+		},
 		;
 
 		abstract
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.compressors.lzma.LZMACompressorInputStream;
+import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
+
+/**
+ * <p>
+ * Decompressing input streams that are backed by the (optional) Apache Commons Compress library.
+ * </p>
+ *
+ * <p>
+ * This class is kept separate from {@link CompressedInputStreamStorage} so that the latter can be loaded
+ * even if the Apache Commons Compress library is not available.
+ * </p>
+ */
+public class CompressorUtil {
+
+	private CompressorUtil(){
+	}
+
+	static
+	public InputStream createBzip2InputStream(InputStream is) throws IOException {
+		return new BZip2CompressorInputStream(is, true);
+	}
+
+	/**
+	 * Requires the <code>org.tukaani:xz</code> library.
+	 */
+	static
+	public InputStream createXzInputStream(InputStream is) throws IOException {
+		return new XZCompressorInputStream(is, true);
+	}
+
+	/**
+	 * Requires the <code>org.tukaani:xz</code> library.
+	 */
+	static
+	public InputStream createLzmaInputStream(InputStream is) throws IOException {
+		return new LZMACompressorInputStream(is);
+	}
+
+	/**
+	 * Requires the <code>com.github.luben:zstd-jni</code> library.
+	 */
+	static
+	public InputStream createZstdInputStream(InputStream is) throws IOException {
+		return new ZstdCompressorInputStream(is);
+	}
+}
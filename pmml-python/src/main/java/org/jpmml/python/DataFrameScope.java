@@ -121,6 +121,17 @@ public class DataFrameScope extends Scope {
 		return super.resolveFeature(name);
 	}
 
+	@Override
+	public List<?> getSignature(){
+		String variableName = getVariableName();
+		List<? extends Feature> columns = getColumns();
+
+		List<Object> result = createSignature(this, columns);
+		result.add(variableName);
+
+		return result;
+	}
+
 	private void checkIsDataFrame(String name){
 		String variableName = getVariableName();
 
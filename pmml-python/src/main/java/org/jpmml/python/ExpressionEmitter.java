@@ -0,0 +1,747 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+
+import builtins.Type;
+import org.dmg.pmml.Apply;
+import org.dmg.pmml.Constant;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.DefineFunction;
+import org.dmg.pmml.DerivedField;
+import org.dmg.pmml.Error;
+import org.dmg.pmml.Expression;
+import org.dmg.pmml.Extension;
+import org.dmg.pmml.FieldRef;
+import org.dmg.pmml.PMMLFunctions;
+import org.dmg.pmml.ParameterField;
+import org.jpmml.converter.ExpressionUtil;
+import org.jpmml.converter.Feature;
+import org.jpmml.python.ast.AssertStmt;
+import org.jpmml.python.ast.AssignStmt;
+import org.jpmml.python.ast.BinaryExpr;
+import org.jpmml.python.ast.Block;
+import org.jpmml.python.ast.BoolExpr;
+import org.jpmml.python.ast.CallExpr;
+import org.jpmml.python.ast.CompareExpr;
+import org.jpmml.python.ast.Def;
+import org.jpmml.python.ast.Expr;
+import org.jpmml.python.ast.ExprStmt;
+import org.jpmml.python.ast.ExprVisitor;
+import org.jpmml.python.ast.IfExpr;
+import org.jpmml.python.ast.IfStmt;
+import org.jpmml.python.ast.ImportStmt;
+import org.jpmml.python.ast.ListExpr;
+import org.jpmml.python.ast.LiteralExpr;
+import org.jpmml.python.ast.MethodCallExpr;
+import org.jpmml.python.ast.NameExpr;
+import org.jpmml.python.ast.RaiseStmt;
+import org.jpmml.python.ast.ReturnStmt;
+import org.jpmml.python.ast.Signature;
+import org.jpmml.python.ast.SliceExpr;
+import org.jpmml.python.ast.Stmt;
+import org.jpmml.python.ast.StmtVisitor;
+import org.jpmml.python.ast.SubscriptExpr;
+import org.jpmml.python.ast.UnaryExpr;
+
+/**
+ * <p>
+ * Emits PMML expressions for Python syntax trees.
+ * </p>
+ *
+ * <p>
+ * Names are resolved against the scope of the translator at emission time.
+ * Statements that do not produce a value (assignments, imports and assertions) are emitted as <code>null</code>.
+ * </p>
+ *
+ * @see ExpressionTranslator
+ */
+class ExpressionEmitter implements ExprVisitor<Expression>, StmtVisitor<Expression> {
+
+	private ExpressionTranslator translator = null;
+
+
+	ExpressionEmitter(ExpressionTranslator translator){
+		setTranslator(translator);
+	}
+
+	public DefineFunction emitDef(Def def){
+		ExpressionTranslator translator = getTranslator();
+
+		translator.clearVariables();
+
+		Signature signature = def.getSignature();
+
+		Expression expression = getOnlyStatement(emitBlock(def.getBody()));
+
+		String returnType = signature.getReturnType();
+
+		DefineFunction defineFunction = translator.createDefineFunction(signature.getName(), (returnType != null ? Type.forClassName(returnType) : null), expression);
+
+		List<String> parameters = signature.getParameters();
+		for(String parameter : parameters){
+			defineFunction.addParameterFields(new ParameterField(parameter));
+		}
+
+		Collection<DerivedField> derivedFields = translator.getVariables();
+		for(DerivedField derivedField : derivedFields){
+			defineFunction.addDerivedFields(derivedField);
+		}
+
+		translator.clearVariables();
+
+		return defineFunction;
+	}
+
+	public Expression emitStatement(Block block){
+		return getOnlyStatement(emitBlock(block));
+	}
+
+	public Expression emitExpression(Expr expr){
+		return expr.accept(this);
+	}
+
+	@Override
+	public Expression visit(ExprStmt exprStmt){
+		Expr value = exprStmt.getValue();
+
+		value.accept(this);
+
+		return null;
+	}
+
+	@Override
+	public Expression visit(AssignStmt assignStmt){
+		ExpressionTranslator translator = getTranslator();
+
+		String type = assignStmt.getType();
+		Expr value = assignStmt.getValue();
+
+		Expression expression = value.accept(this);
+
+		translator.putVariable(assignStmt.getName(), (type != null ? Type.forClassName(type) : null), expression);
+
+		return null;
+	}
+
+	@Override
+	public Expression visit(ReturnStmt returnStmt){
+		Expr value = returnStmt.getValue();
+
+		return value.accept(this);
+	}
+
+	@Override
+	public Expression visit(RaiseStmt raiseStmt){
+		ExpressionTranslator translator = getTranslator();
+
+		String dottedName = translator.canonicalizeDottedName(raiseStmt.getDottedName());
+
+		return new Error()
+			.setMessage(raiseStmt.getMessage())
+			.addExtensions(new Extension("class", dottedName));
+	}
+
+	@Override
+	public Expression visit(ImportStmt importStmt){
+		ExpressionTranslator translator = getTranslator();
+
+		Map<String, String> moduleImports = translator.getModuleImports();
+
+		List<ImportStmt.Alias> aliases = importStmt.getAliases();
+		for(ImportStmt.Alias alias : aliases){
+			String dottedName = alias.getDottedName();
+			String asName = alias.getAsName();
+
+			moduleImports.put(asName != null ? asName : dottedName, dottedName);
+		}
+
+		return null;
+	}
+
+	@Override
+	public Expression visit(AssertStmt assertStmt){
+		Expr test = assertStmt.getTest();
+		Expr message = assertStmt.getMessage();
+
+		test.accept(this);
+
+		if(message != null){
+			message.accept(this);
+		}
+
+		return null;
+	}
+
+	@Override
+	public Expression visit(IfStmt ifStmt){
+		Expr test = ifStmt.getTest();
+		Block body = ifStmt.getBody();
+		Block orElse = ifStmt.getOrElse();
+
+		Apply apply = ExpressionUtil.createApply(PMMLFunctions.IF, test.accept(this), emitStatement(body));
+
+		if(orElse != null){
+			apply.addExpressions(emitStatement(orElse));
+		}
+
+		return apply;
+	}
+
+	@Override
+	public Expression visit(NameExpr nameExpr){
+		ExpressionTranslator translator = getTranslator();
+
+		Scope scope = translator.ensureScope();
+
+		String dottedName = translator.canonicalizeDottedName(nameExpr.getDottedName());
+
+		int dot = dottedName.indexOf('.');
+		if(dot > -1){
+			Identifiable identifiable = IdentifiableUtil.toIdentifiable(dottedName);
+
+			return ConstantUtil.encodeConstant(identifiable);
+		}
+
+		FieldRef fieldRef = translator.getVariable(dottedName);
+		if(fieldRef != null){
+			return fieldRef;
+		}
+
+		Feature feature = scope.getFeature(dottedName);
+
+		return feature.ref();
+	}
+
+	@Override
+	public Expression visit(SubscriptExpr subscriptExpr){
+		ExpressionTranslator translator = getTranslator();
+
+		Scope scope = translator.ensureScope();
+
+		String dottedName = translator.canonicalizeDottedName(subscriptExpr.getDottedName());
+		Object column = subscriptExpr.getColumn();
+
+		Feature feature;
+
+		if(column instanceof Integer){
+			feature = scope.getFeature(dottedName, (Integer)column);
+		} else
+
+		{
+			feature = scope.getFeature(dottedName, (String)column);
+		}
+
+		return feature.ref();
+	}
+
+	@Override
+	public Expression visit(CallExpr callExpr){
+		ExpressionTranslator translator = getTranslator();
+
+		Scope scope = translator.ensureScope();
+
+		String dottedName = translator.canonicalizeDottedName(callExpr.getDottedName());
+		List<Expression> arguments = emitExpressions(callExpr.getArguments());
+
+		int dot = dottedName.lastIndexOf('.');
+		if(dot > -1){
+			String featureName = dottedName.substring(0, dot);
+			String functionName = dottedName.substring(dot + 1);
+
+			Feature feature = scope.resolveFeature(featureName);
+			if(feature != null){
+				return translateTrailerFunction(feature.ref(), functionName, arguments);
+			}
+		}
+
+		return translator.encodeFunction(dottedName, arguments);
+	}
+
+	@Override
+	public Expression visit(MethodCallExpr methodCallExpr){
+		Expr target = methodCallExpr.getTarget();
+
+		Expression expression = target.accept(this);
+		List<Expression> arguments = emitExpressions(methodCallExpr.getArguments());
+
+		return translateTrailerFunction(expression, methodCallExpr.getName(), arguments);
+	}
+
+	@Override
+	public Expression visit(SliceExpr sliceExpr){
+		Expr target = sliceExpr.getTarget();
+
+		Expression expression = target.accept(this);
+
+		return translateStringSlice(expression, sliceExpr.getStart(), sliceExpr.getStop());
+	}
+
+	@Override
+	public Expression visit(LiteralExpr literalExpr){
+		Object value = literalExpr.getValue();
+
+		DataType dataType;
+		Boolean missing = null;
+
+		if(value == null){
+			dataType = null;
+			missing = Boolean.TRUE;
+		} else
+
+		if(value instanceof Boolean){
+			dataType = DataType.BOOLEAN;
+		} else
+
+		if(value instanceof Integer){
+			dataType = DataType.INTEGER;
+		} else
+
+		if(value instanceof Double){
+			dataType = DataType.DOUBLE;
+		} else
+
+		if(value instanceof String){
+			dataType = DataType.STRING;
+		} else
+
+		{
+			throw new IllegalArgumentException();
+		}
+
+		Constant constant = new Constant()
+			.setValue(value)
+			.setDataType(dataType)
+			.setMissing(missing);
+
+		return constant;
+	}
+
+	@Override
+	public Expression visit(UnaryExpr unaryExpr){
+		UnaryExpr.Operator operator = unaryExpr.getOperator();
+		Expr operand = unaryExpr.getOperand();
+
+		Expression expression = operand.accept(this);
+
+		switch(operator){
+			case PLUS:
+				return expression;
+			case MINUS:
+				return ExpressionUtil.toNegative(expression);
+			case NOT:
+				return ExpressionUtil.createApply(PMMLFunctions.NOT, expression);
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	@Override
+	public Expression visit(BinaryExpr binaryExpr){
+		ExpressionTranslator translator = getTranslator();
+
+		BinaryExpr.Operator operator = binaryExpr.getOperator();
+
+		Expression left = (binaryExpr.getLeft()).accept(this);
+		Expression right = (binaryExpr.getRight()).accept(this);
+
+		switch(operator){
+			case ADD:
+				if(ExpressionUtil.isString(left, translator) && ExpressionUtil.isString(right, translator)){
+					return ExpressionUtil.createApply(PMMLFunctions.CONCAT, left, right);
+				}
+				return ExpressionUtil.createApply(PMMLFunctions.ADD, left, right);
+			case SUBTRACT:
+				return ExpressionUtil.createApply(PMMLFunctions.SUBTRACT, left, right);
+			case MULTIPLY:
+				return ExpressionUtil.createApply(PMMLFunctions.MULTIPLY, left, right);
+			case DIVIDE:
+				return ExpressionUtil.createApply(PMMLFunctions.DIVIDE, left, right);
+			case FLOOR_DIVIDE:
+				return ExpressionUtil.createApply(PMMLFunctions.FLOOR, ExpressionUtil.createApply(PMMLFunctions.DIVIDE, left, right));
+			case MODULO:
+				return ExpressionUtil.createApply(PMMLFunctions.MODULO, left, right);
+			case POWER:
+				return ExpressionUtil.createApply(PMMLFunctions.POW, left, right);
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	@Override
+	public Expression visit(BoolExpr boolExpr){
+		BoolExpr.Operator operator = boolExpr.getOperator();
+
+		Expression left = (boolExpr.getLeft()).accept(this);
+		Expression right = (boolExpr.getRight()).accept(this);
+
+		switch(operator){
+			case AND:
+				return ExpressionUtil.createApply(PMMLFunctions.AND, left, right);
+			case OR:
+				return ExpressionUtil.createApply(PMMLFunctions.OR, left, right);
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	@Override
+	public Expression visit(CompareExpr compareExpr){
+		List<CompareExpr.Operator> operators = compareExpr.getOperators();
+		List<Expr> comparators = compareExpr.getComparators();
+
+		List<Expression> expressions = new ArrayList<>();
+
+		Expression prevRight = (compareExpr.getLeft()).accept(this);
+
+		for(int i = 0; i < operators.size(); i++){
+			CompareExpr.Operator operator = operators.get(i);
+			Expr comparator = comparators.get(i);
+
+			Expression expression;
+			Expression right;
+
+			switch(operator){
+				case IS:
+					expression = ExpressionUtil.createApply(PMMLFunctions.ISMISSING, ensureOperand(prevRight));
+					right = null;
+					break;
+				case IS_NOT:
+					expression = ExpressionUtil.createApply(PMMLFunctions.ISNOTMISSING, ensureOperand(prevRight));
+					right = null;
+					break;
+				case IN:
+					expression = ExpressionUtil.createApply(PMMLFunctions.ISIN, ensureOperand(prevRight)).addExpressions(emitElements(comparator));
+					right = null;
+					break;
+				case NOT_IN:
+					expression = ExpressionUtil.createApply(PMMLFunctions.ISNOTIN, prevRight).addExpressions(emitElements(comparator));
+					right = null;
+					break;
+				default:
+					right = comparator.accept(this);
+					expression = ExpressionUtil.createApply(translateRelationalOperator(operator), prevRight, right);
+					break;
+			}
+
+			expressions.add(expression);
+
+			prevRight = right;
+		}
+
+		if(expressions.size() == 1){
+			return expressions.get(0);
+		}
+
+		return ExpressionUtil.createApply(PMMLFunctions.AND, expressions.toArray(new Expression[expressions.size()]));
+	}
+
+	@Override
+	public Expression visit(ListExpr listExpr){
+		throw new OperationException("List expressions are only supported as the right-hand side of membership tests");
+	}
+
+	@Override
+	public Expression visit(IfExpr ifExpr){
+		Expression body = (ifExpr.getBody()).accept(this);
+		Expression test = (ifExpr.getTest()).accept(this);
+		Expression orElse = (ifExpr.getOrElse()).accept(this);
+
+		return ExpressionUtil.createApply(PMMLFunctions.IF, test, body, orElse);
+	}
+
+	private List<Expression> emitBlock(Block block){
+		List<Expression> statements = new ArrayList<>();
+
+		List<Stmt> stmts = block.getStatements();
+		for(Stmt stmt : stmts){
+			statements.add(stmt.accept(this));
+		}
+
+		return cleanStatements(statements);
+	}
+
+	private List<Expression> emitExpressions(List<Expr> exprs){
+		List<Expression> expressions = new ArrayList<>();
+
+		for(Expr expr : exprs){
+			expressions.add(expr.accept(this));
+		}
+
+		return expressions;
+	}
+
+	private Expression[] emitElements(Expr expr){
+		ListExpr listExpr = (ListExpr)expr;
+
+		List<Expression> expressions = emitExpressions(listExpr.getElements());
+
+		return expressions.toArray(new Expression[expressions.size()]);
+	}
+
+	public ExpressionTranslator getTranslator(){
+		return this.translator;
+	}
+
+	private void setTranslator(ExpressionTranslator translator){
+		this.translator = Objects.requireNonNull(translator);
+	}
+
+	static
+	private Expression ensureOperand(Expression expression){
+
+		if(expression == null){
+			throw new OperationException("Operand is not defined");
+		}
+
+		return expression;
+	}
+
+	static
+	private void checkMethodCall(String dottedName, List<String> parameters, List<Expression> expressions){
+
+		if(expressions.size() != parameters.size()){
+			throw new InvalidMethodCallException(dottedName, parameters, expressions);
+		}
+	}
+
+	static
+	private String translateRelationalOperator(CompareExpr.Operator operator){
+
+		switch(operator){
+			case EQUAL:
+				return PMMLFunctions.EQUAL;
+			case NOT_EQUAL:
+				return PMMLFunctions.NOTEQUAL;
+			case LESS_THAN:
+				return PMMLFunctions.LESSTHAN;
+			case LESS_OR_EQUAL:
+				return PMMLFunctions.LESSOREQUAL;
+			case GREATER_THAN:
+				return PMMLFunctions.GREATERTHAN;
+			case GREATER_OR_EQUAL:
+				return PMMLFunctions.GREATEROREQUAL;
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	static
+	private Apply translateTrailerFunction(Expression expression, String name, List<Expression> arguments){
+
+		if(Objects.equals("startswith", name) || Objects.equals("endswith", name)){
+			checkMethodCall("str" + "." + name, Arrays.asList(Objects.equals("startswith", name) ? "prefix" : "suffix"), arguments);
+
+			Expression argument = arguments.get(0);
+			if(!(argument instanceof Constant)){
+				throw new IllegalArgumentException();
+			}
+
+			Constant constant = (Constant)argument;
+			if(constant.getDataType() != DataType.STRING){
+				throw new IllegalArgumentException();
+			}
+
+			String value = (String)constant.getValue();
+
+			switch(name){
+				case "startswith":
+					return ExpressionUtil.createApply(PMMLFunctions.EQUAL,
+						translateStringSlice(expression, 0, value.length()),
+						constant
+					);
+				case "endswith":
+					return ExpressionUtil.createApply(PMMLFunctions.EQUAL,
+						translateStringSlice(expression, -value.length(), null),
+						constant
+					);
+				default:
+					break;
+			}
+		} else
+
+		if(Objects.equals("lower", name) || Objects.equals("upper", name)){
+			checkMethodCall("str" + "." + name, Collections.emptyList(), arguments);
+
+			switch(name){
+				case "lower":
+					return ExpressionUtil.createApply(PMMLFunctions.LOWERCASE, expression);
+				case "upper":
+					return ExpressionUtil.createApply(PMMLFunctions.UPPERCASE, expression);
+				default:
+					break;
+			}
+		} else
+
+		if(Objects.equals("strip", name)){
+			checkMethodCall("str" + "." + name, Collections.emptyList(), arguments);
+
+			switch(name){
+				case "strip":
+					return ExpressionUtil.createApply(PMMLFunctions.TRIMBLANKS, expression);
+				default:
+					break;
+			}
+		}
+
+		throw new MethodResolutionException("str" + "." + name);
+	}
+
+	static
+	private Expression translateStringSlice(Expression expression, Integer startPos, Integer stopPos){
+
+		if(startPos == null && stopPos == null){
+			return expression;
+		}
+
+		Expression offsetExpression;
+
+		if(startPos != null && startPos >= 0){
+			offsetExpression = ExpressionUtil.createConstant(DataType.INTEGER, startPos + 1);
+		} else
+
+		if(startPos != null && startPos < 0){
+			offsetExpression = ExpressionUtil.createApply(PMMLFunctions.MAX,
+				ExpressionUtil.createApply(PMMLFunctions.SUBTRACT, 
+					ExpressionUtil.createApply(PMMLFunctions.STRINGLENGTH, expression),
+					ExpressionUtil.createConstant(DataType.INTEGER, (-startPos) - 1)
+				),
+				ExpressionUtil.createConstant(DataType.INTEGER, 1)
+			);
+		} else
+
+		{
+			offsetExpression = ExpressionUtil.createConstant(DataType.INTEGER, 1);
+		} // End if
+
+		Expression lengthExpression;
+
+		if(stopPos != null && stopPos >= 0){
+
+			if(startPos != null && startPos >= 0){
+				lengthExpression = ExpressionUtil.createConstant(DataType.INTEGER, Math.max(stopPos - startPos, 0));
+			} else
+
+			if(startPos != null && startPos < 0){
+				lengthExpression = ExpressionUtil.createConstant(DataType.INTEGER, 0);
+			} else
+
+			{
+				lengthExpression = ExpressionUtil.createConstant(DataType.INTEGER, stopPos);
+			}
+		} else
+
+		if(stopPos != null && stopPos < 0){
+
+			if(startPos != null && startPos >= 0){
+				lengthExpression = ExpressionUtil.createApply(PMMLFunctions.MAX,
+					ExpressionUtil.createApply(PMMLFunctions.SUBTRACT,
+						ExpressionUtil.createApply(PMMLFunctions.STRINGLENGTH, expression),
+						ExpressionUtil.createConstant(DataType.INTEGER, startPos + (-stopPos))
+					),
+					ExpressionUtil.createConstant(DataType.INTEGER, 0)
+				);
+			} else
+
+			if(startPos != null && startPos < 0){
+				lengthExpression = ExpressionUtil.createConstant(DataType.INTEGER, Math.max(stopPos - startPos, 0));
+			} else
+
+			{
+				lengthExpression = ExpressionUtil.createApply(PMMLFunctions.MAX,
+					ExpressionUtil.createApply(PMMLFunctions.SUBTRACT,
+						ExpressionUtil.createApply(PMMLFunctions.STRINGLENGTH, expression),
+						ExpressionUtil.createConstant(DataType.INTEGER, -stopPos)
+					),
+					ExpressionUtil.createConstant(DataType.INTEGER, 0)
+				);
+			}
+		} else
+
+		{
+			lengthExpression = ExpressionUtil.createConstant(DataType.INTEGER, Integer.MAX_VALUE);
+		}
+
+		return ExpressionUtil.createApply(PMMLFunctions.SUBSTRING, expression, offsetExpression, lengthExpression);
+	}
+
+
+	static
+	private List<Expression> cleanStatements(List<Expression> statements){
+
+		for(Iterator<Expression> it = statements.iterator(); it.hasNext(); ){
+			Expression statement = it.next();
+
+			if(statement == null){
+				it.remove();
+			}
+		}
+
+		for(ListIterator<Expression> it = statements.listIterator(statements.size()); it.hasPrevious() && (statements.size() > 1); ){
+			Expression lastStatement = it.previous();
+			Expression secondToLastStatement = statements.get(statements.size() - 2);
+
+			if(secondToLastStatement instanceof Apply){
+				Apply apply = (Apply)secondToLastStatement;
+
+				if(Objects.equals(PMMLFunctions.IF, apply.requireFunction())){
+					List<Expression> expressions = apply.getExpressions();
+
+					if(expressions.size() == 2){
+						apply.addExpressions(lastStatement);
+
+						it.remove();
+
+						continue;
+					}
+				}
+			}
+
+			break;
+		}
+
+		return statements;
+	}
+
+	static
+	private Expression getOnlyStatement(List<Expression> statements){
+		int size = statements.size();
+
+		if(size == 0){
+			throw new OperationException("Block does not contain any PMML-compatible statements");
+		} else
+
+		if(size == 1){
+			return statements.get(0);
+		} else
+
+		{
+			throw new OperationException("Block contains more than one PMML-compatible statements");
+		}
+	}
+}
\ No newline at end of file
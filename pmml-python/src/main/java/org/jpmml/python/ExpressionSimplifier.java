@@ -0,0 +1,570 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.google.common.math.IntMath;
+import org.dmg.pmml.Apply;
+import org.dmg.pmml.Constant;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.DefineFunction;
+import org.dmg.pmml.Expression;
+import org.dmg.pmml.FieldRef;
+import org.dmg.pmml.InvalidValueTreatmentMethod;
+import org.dmg.pmml.PMMLFunctions;
+import org.dmg.pmml.PMMLObject;
+import org.dmg.pmml.ParameterField;
+import org.dmg.pmml.VisitorAction;
+import org.jpmml.converter.ExpressionUtil;
+import org.jpmml.converter.FeatureResolver;
+import org.jpmml.converter.PMMLEncoder;
+import org.jpmml.model.visitors.AbstractVisitor;
+
+/**
+ * <p>
+ * A constant folding and algebraic simplification pass.
+ * </p>
+ *
+ * <ul>
+ *   <li>Constant subtrees of arithmetic and elementary math functions are evaluated.</li>
+ *   <li>Identity operations (<code>x + 0</code>, <code>x * 1</code>, <code>x ** 1</code> etc.) are removed.</li>
+ *   <li>Casts to the current data type are removed.</li>
+ *   <li>Conditional expressions with literal conditions are replaced with the taken branch.</li>
+ * </ul>
+ *
+ * <p>
+ * A rewrite is applied only if it preserves the PMML data type of the expression.
+ * Apply elements that customize missing or invalid value handling are left intact.
+ * </p>
+ *
+ * <p>
+ * A cast function that has been defined since the construction of this simplifier,
+ * and that is no longer referenced after cast removal, is removed from the encoder.
+ * Therefore, a simplifier should be constructed right before the translation that it simplifies.
+ * </p>
+ *
+ * @see ExpressionTranslator#setSimplify(boolean)
+ */
+public class ExpressionSimplifier {
+
+	private FeatureResolver resolver = null;
+
+	private PMMLEncoder encoder = null;
+
+	private Set<String> definedFunctions = null;
+
+	private Set<String> removedCastFunctions = new LinkedHashSet<>();
+
+
+	public ExpressionSimplifier(FeatureResolver resolver, PMMLEncoder encoder){
+		setResolver(resolver);
+		setEncoder(encoder);
+
+		if(encoder != null){
+			Map<String, DefineFunction> defineFunctions = encoder.getDefineFunctions();
+
+			this.definedFunctions = new HashSet<>(defineFunctions.keySet());
+		} else
+
+		{
+			this.definedFunctions = Collections.emptySet();
+		}
+	}
+
+	public Expression simplify(Expression expression){
+		expression = simplifyExpression(expression);
+
+		removeUnusedCastFunctions(expression);
+
+		return expression;
+	}
+
+	private Expression simplifyExpression(Expression expression){
+
+		if(expression instanceof Apply){
+			Apply apply = (Apply)expression;
+
+			List<Expression> expressions = apply.getExpressions();
+
+			for(ListIterator<Expression> it = expressions.listIterator(); it.hasNext(); ){
+				it.set(simplifyExpression(it.next()));
+			}
+
+			if(!isPlain(apply)){
+				return apply;
+			}
+
+			return simplifyApply(apply);
+		}
+
+		return expression;
+	}
+
+	private Expression simplifyApply(Apply apply){
+		String function = apply.requireFunction();
+		List<Expression> expressions = apply.getExpressions();
+
+		switch(function){
+			case PMMLFunctions.ADD:
+			case PMMLFunctions.SUBTRACT:
+			case PMMLFunctions.MULTIPLY:
+			case PMMLFunctions.DIVIDE:
+			case PMMLFunctions.POW:
+				if(expressions.size() == 2){
+					return simplifyArithmetic(apply, function, expressions.get(0), expressions.get(1));
+				}
+				break;
+			case PMMLFunctions.EXP:
+			case PMMLFunctions.LN:
+			case PMMLFunctions.LOG10:
+			case PMMLFunctions.SQRT:
+				if(expressions.size() == 1){
+					return simplifyMath(apply, function, expressions.get(0));
+				}
+				break;
+			case PMMLFunctions.IF:
+				if(expressions.size() == 2 || expressions.size() == 3){
+					return simplifyIf(apply, expressions);
+				}
+				break;
+			default:
+				if(expressions.size() == 1){
+					return simplifyCast(apply, function, expressions.get(0));
+				}
+				break;
+		}
+
+		return apply;
+	}
+
+	private Expression simplifyArithmetic(Apply apply, String function, Expression left, Expression right){
+		Number leftValue = getNumericValue(left);
+		Number rightValue = getNumericValue(right);
+
+		if(leftValue != null && rightValue != null){
+			Constant constant = evaluateArithmetic(function, (Constant)left, leftValue, (Constant)right, rightValue);
+
+			if(constant != null){
+				return constant;
+			}
+
+			return apply;
+		} // End if
+
+		if(rightValue != null){
+
+			switch(function){
+				case PMMLFunctions.ADD:
+				case PMMLFunctions.SUBTRACT:
+					if(isIdentity(left, (Constant)right, rightValue, 0)){
+						return left;
+					}
+					break;
+				case PMMLFunctions.MULTIPLY:
+				case PMMLFunctions.POW:
+					if(isIdentity(left, (Constant)right, rightValue, 1)){
+						return left;
+					}
+					break;
+				case PMMLFunctions.DIVIDE:
+					// Integer division may change the data type
+					if(rightValue.doubleValue() == 1d && getDataType(left) == DataType.DOUBLE){
+						return left;
+					}
+					break;
+				default:
+					break;
+			}
+		} else
+
+		if(leftValue != null){
+
+			switch(function){
+				case PMMLFunctions.ADD:
+					if(isIdentity(right, (Constant)left, leftValue, 0)){
+						return right;
+					}
+					break;
+				case PMMLFunctions.MULTIPLY:
+					if(isIdentity(right, (Constant)left, leftValue, 1)){
+						return right;
+					}
+					break;
+				default:
+					break;
+			}
+		}
+
+		return apply;
+	}
+
+	private Expression simplifyMath(Apply apply, String function, Expression expression){
+		Number value = getNumericValue(expression);
+
+		if(value != null){
+			double result;
+
+			switch(function){
+				case PMMLFunctions.EXP:
+					result = Math.exp(value.doubleValue());
+					break;
+				case PMMLFunctions.LN:
+					result = Math.log(value.doubleValue());
+					break;
+				case PMMLFunctions.LOG10:
+					result = Math.log10(value.doubleValue());
+					break;
+				case PMMLFunctions.SQRT:
+					result = Math.sqrt(value.doubleValue());
+					break;
+				default:
+					throw new IllegalArgumentException(function);
+			}
+
+			if(Double.isNaN(result) || Double.isInfinite(result)){
+				return apply;
+			}
+
+			return ExpressionUtil.createConstant(DataType.DOUBLE, result);
+		}
+
+		// The ln(exp(x)) = x identity does not hold where exp(x) overflows or underflows, so it is not applied
+		return apply;
+	}
+
+	private Expression simplifyIf(Apply apply, List<Expression> expressions){
+		Expression condition = expressions.get(0);
+
+		Boolean value = getBooleanValue(condition);
+		if(value == null){
+			return apply;
+		}
+
+		DataType dataType = getDataType(apply);
+		if(dataType == null){
+			return apply;
+		}
+
+		Expression result;
+
+		if(value){
+			result = expressions.get(1);
+		} else
+
+		{
+			if(expressions.size() == 3){
+				result = expressions.get(2);
+			} else
+
+			{
+				return ExpressionUtil.createMissingConstant()
+					.setDataType(dataType);
+			}
+		} // End if
+
+		if(getDataType(result) != dataType){
+			return apply;
+		}
+
+		return result;
+	}
+
+	private Expression simplifyCast(Apply apply, String function, Expression expression){
+		DefineFunction defineFunction = getCastFunction(function);
+
+		if(defineFunction != null){
+			DataType dataType = getDataType(expression);
+
+			if(dataType != null && dataType == defineFunction.getDataType()){
+				this.removedCastFunctions.add(defineFunction.requireName());
+
+				return expression;
+			}
+		}
+
+		return apply;
+	}
+
+	private void removeUnusedCastFunctions(Expression expression){
+		PMMLEncoder encoder = getEncoder();
+
+		if(encoder == null){
+			return;
+		}
+
+		Map<String, DefineFunction> defineFunctions = encoder.getDefineFunctions();
+
+		for(String name : this.removedCastFunctions){
+
+			// Functions that were defined earlier may be referenced by earlier translation results
+			if(this.definedFunctions.contains(name)){
+				continue;
+			} // End if
+
+			if(isReferenced(name, Collections.singletonList(expression)) || isReferenced(name, (encoder.getDerivedFields()).values()) || isReferenced(name, defineFunctions.values())){
+				continue;
+			}
+
+			defineFunctions.remove(name);
+		}
+
+		this.removedCastFunctions.clear();
+	}
+
+	private boolean isIdentity(Expression expression, Constant constant, Number value, int identity){
+		DataType dataType = getDataType(expression);
+
+		if(dataType == null || value.doubleValue() != identity){
+			return false;
+		}
+
+		switch(constant.getDataType()){
+			case INTEGER:
+				return (dataType == DataType.INTEGER) || (dataType == DataType.FLOAT) || (dataType == DataType.DOUBLE);
+			case DOUBLE:
+				return (dataType == DataType.DOUBLE);
+			default:
+				return false;
+		}
+	}
+
+	private DataType getDataType(Expression expression){
+		FeatureResolver resolver = getResolver();
+
+		if(expression instanceof Apply){
+			Apply apply = (Apply)expression;
+
+			DefineFunction defineFunction = getCastFunction(apply.requireFunction());
+			if(defineFunction != null){
+				return defineFunction.getDataType();
+			}
+		}
+
+		return ExpressionUtil.getDataType(expression, resolver);
+	}
+
+	/**
+	 * @return A user-defined function that returns its only argument unchanged, but declares a different data type.
+	 */
+	private DefineFunction getCastFunction(String function){
+		PMMLEncoder encoder = getEncoder();
+
+		if(encoder == null){
+			return null;
+		}
+
+		DefineFunction defineFunction = encoder.getDefineFunction(function);
+		if(defineFunction == null || !defineFunction.hasParameterFields()){
+			return null;
+		}
+
+		List<ParameterField> parameterFields = defineFunction.getParameterFields();
+		if(parameterFields.size() != 1){
+			return null;
+		}
+
+		ParameterField parameterField = parameterFields.get(0);
+
+		Expression expression = defineFunction.getExpression();
+		if(expression instanceof FieldRef){
+			FieldRef fieldRef = (FieldRef)expression;
+
+			if(Objects.equals(parameterField.getName(), fieldRef.getField()) && fieldRef.getMapMissingTo() == null){
+				return defineFunction;
+			}
+		}
+
+		return null;
+	}
+
+	public FeatureResolver getResolver(){
+		return this.resolver;
+	}
+
+	private void setResolver(FeatureResolver resolver){
+		this.resolver = Objects.requireNonNull(resolver);
+	}
+
+	public PMMLEncoder getEncoder(){
+		return this.encoder;
+	}
+
+	private void setEncoder(PMMLEncoder encoder){
+		this.encoder = encoder;
+	}
+
+	static
+	private Constant evaluateArithmetic(String function, Constant left, Number leftValue, Constant right, Number rightValue){
+
+		if(left.getDataType() == DataType.INTEGER && right.getDataType() == DataType.INTEGER){
+			int result;
+
+			try {
+				switch(function){
+					case PMMLFunctions.ADD:
+						result = Math.addExact(leftValue.intValue(), rightValue.intValue());
+						break;
+					case PMMLFunctions.SUBTRACT:
+						result = Math.subtractExact(leftValue.intValue(), rightValue.intValue());
+						break;
+					case PMMLFunctions.MULTIPLY:
+						result = Math.multiplyExact(leftValue.intValue(), rightValue.intValue());
+						break;
+					case PMMLFunctions.POW:
+						if(rightValue.intValue() < 0){
+							return null;
+						}
+						result = IntMath.checkedPow(leftValue.intValue(), rightValue.intValue());
+						break;
+					default:
+						return null;
+				}
+			} catch(ArithmeticException ae){
+				return null;
+			}
+
+			return ExpressionUtil.createConstant(DataType.INTEGER, result);
+		} else
+
+		{
+			double result;
+
+			switch(function){
+				case PMMLFunctions.ADD:
+					result = leftValue.doubleValue() + rightValue.doubleValue();
+					break;
+				case PMMLFunctions.SUBTRACT:
+					result = leftValue.doubleValue() - rightValue.doubleValue();
+					break;
+				case PMMLFunctions.MULTIPLY:
+					result = leftValue.doubleValue() * rightValue.doubleValue();
+					break;
+				case PMMLFunctions.DIVIDE:
+					result = leftValue.doubleValue() / rightValue.doubleValue();
+					break;
+				case PMMLFunctions.POW:
+					result = Math.pow(leftValue.doubleValue(), rightValue.doubleValue());
+					break;
+				default:
+					return null;
+			}
+
+			if(Double.isNaN(result) || Double.isInfinite(result)){
+				return null;
+			}
+
+			return ExpressionUtil.createConstant(DataType.DOUBLE, result);
+		}
+	}
+
+	/**
+	 * @return The value of an integer or double constant, or <code>null</code>.
+	 */
+	static
+	private Number getNumericValue(Expression expression){
+
+		if(expression instanceof Constant){
+			Constant constant = (Constant)expression;
+
+			Object value = constant.getValue();
+			if(constant.isMissing() || value == null){
+				return null;
+			}
+
+			DataType dataType = constant.getDataType();
+			if(dataType == null){
+				return null;
+			}
+
+			switch(dataType){
+				case INTEGER:
+					if(value instanceof Integer){
+						return (Integer)value;
+					}
+					return null;
+				case DOUBLE:
+					if(value instanceof Number){
+						return ((Number)value).doubleValue();
+					}
+					return null;
+				default:
+					return null;
+			}
+		}
+
+		return null;
+	}
+
+	static
+	private boolean isReferenced(String function, Iterable<? extends PMMLObject> objects){
+		AbstractVisitor visitor = new AbstractVisitor(){
+
+			@Override
+			public VisitorAction visit(Apply apply){
+
+				if(Objects.equals(function, apply.getFunction())){
+					return VisitorAction.TERMINATE;
+				}
+
+				return super.visit(apply);
+			}
+		};
+
+		for(PMMLObject object : objects){
+
+			if(object.accept(visitor) == VisitorAction.TERMINATE){
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	static
+	private Boolean getBooleanValue(Expression expression){
+
+		if(expression instanceof Constant){
+			Constant constant = (Constant)expression;
+
+			Object value = constant.getValue();
+			if(constant.isMissing() || value == null || constant.getDataType() != DataType.BOOLEAN){
+				return null;
+			} // End if
+
+			if(value instanceof Boolean){
+				return (Boolean)value;
+			}
+		}
+
+		return null;
+	}
+
+	static
+	private boolean isPlain(Apply apply){
+		return (apply.getDefaultValue() == null) && (apply.getMapMissingTo() == null) && (apply.getInvalidValueTreatment() == InvalidValueTreatmentMethod.RETURN_INVALID) && !apply.hasExtensions();
+	}
+}
\ No newline at end of file
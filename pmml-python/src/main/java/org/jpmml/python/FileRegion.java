@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A contiguous region of a file, which is read on demand.
+ */
+public class FileRegion {
+
+	private File file = null;
+
+	private long position = 0L;
+
+	private int size = 0;
+
+
+	public FileRegion(File file, long position, int size){
+		setFile(file);
+		setPosition(position);
+		setSize(size);
+	}
+
+	public ByteBuffer read() throws IOException {
+		File file = getFile();
+		long position = getPosition();
+		int size = getSize();
+
+		ByteBuffer result = ByteBuffer.allocate(size);
+
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+
+			while(result.hasRemaining()){
+				int count = channel.read(result, position + result.position());
+
+				if(count < 0){
+					throw new EOFException();
+				}
+			}
+		}
+
+		result.flip();
+
+		return result;
+	}
+
+	public File getFile(){
+		return this.file;
+	}
+
+	private void setFile(File file){
+		this.file = file;
+	}
+
+	public long getPosition(){
+		return this.position;
+	}
+
+	private void setPosition(long position){
+		this.position = position;
+	}
+
+	public int getSize(){
+		return this.size;
+	}
+
+	private void setSize(int size){
+		this.size = size;
+	}
+}
@@ -51,7 +51,7 @@ public class FileStorage extends Storage {
 		this.file = null;
 	}
 
-	private File ensureOpen() throws IOException {
+	protected File ensureOpen() throws IOException {
 
 		if(this.file == null){
 			throw new IOException();
@@ -22,6 +22,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import org.jpmml.python.ast.Def;
+import org.jpmml.python.ast.SyntaxTree;
+
 public class FunctionDef {
 
 	private String string = null;
@@ -32,6 +35,8 @@ public class FunctionDef {
 
 	private String returnType = null;
 
+	private SyntaxTree<Def> syntaxTree = null;
+
 
 	public FunctionDef(String string){
 		setString(string);
@@ -65,6 +70,17 @@ public class FunctionDef {
 		this.returnType = returnType;
 	}
 
+	/**
+	 * @return The syntax tree of the complete function definition, or <code>null</code> if not parsed yet.
+	 */
+	public SyntaxTree<Def> getSyntaxTree(){
+		return this.syntaxTree;
+	}
+
+	public void setSyntaxTree(SyntaxTree<Def> syntaxTree){
+		this.syntaxTree = syntaxTree;
+	}
+
 	static
 	public class Parameter {
 
@@ -18,6 +18,7 @@
  */
 package org.jpmml.python;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -51,6 +52,16 @@ public class FunctionDefScope extends BlockScope {
 		return null;
 	}
 
+	@Override
+	public List<?> getSignature(){
+		FunctionDef functionDef = getFunctionDef();
+
+		List<Object> result = new ArrayList<>(super.getSignature());
+		result.add(functionDef.getString());
+
+		return result;
+	}
+
 	public int getParameterIndex(String name){
 		FunctionDef functionDef = getFunctionDef();
 
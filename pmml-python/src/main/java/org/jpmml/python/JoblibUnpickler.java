@@ -18,21 +18,38 @@
  */
 package org.jpmml.python;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Map;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import joblib.NDArrayWrapperConstructor;
 import joblib.NumpyArrayWrapper;
-import net.razorvine.pickle.IObjectConstructor;
 import net.razorvine.pickle.Opcodes;
 import net.razorvine.pickle.PickleException;
 import numpy.core.NDArray;
 
 public class JoblibUnpickler extends PythonUnpickler {
 
+	private boolean lazy = false;
+
+	private boolean parallel = false;
+
+	private Executor executor = ForkJoinPool.commonPool();
+
+	private Storage storage = null;
+
 	private InputStream is = null;
 
+	private List<NDArray> undecodedArrays = null;
+
 
 	@Override
 	public Object load(Storage storage) throws PickleException, IOException {
@@ -41,25 +58,35 @@ public class JoblibUnpickler extends PythonUnpickler {
 			new NDArrayWrapperConstructor("sklearn.externals.joblib.numpy_pickle", "NDArrayWrapper", storage),
 		};
 
-		synchronized(JoblibUnpickler.LOCK){
-			Map<String, IObjectConstructor> objectConstructors = PickleUtil.getObjectConstructors();
+		List<NDArray> undecodedArrays = new ArrayList<>();
 
-			try(InputStream is = storage.getObject()){
-				this.is = is;
+		Object result;
 
-				for(PythonObjectConstructor constructor : constructors){
-					objectConstructors.put(constructor.getModule() + "." + constructor.getName(), constructor);
-				}
+		for(PythonObjectConstructor constructor : constructors){
+			registerLocalConstructor(constructor.getModule(), constructor.getName(), constructor);
+		}
 
-				return load(is);
-			} finally {
-				this.is = null;
+		try(InputStream is = storage.getObject()){
+			this.storage = storage;
+			this.is = is;
+			this.undecodedArrays = undecodedArrays;
 
-				for(PythonObjectConstructor constructor : constructors){
-					objectConstructors.remove(constructor.getModule() + "." + constructor.getName());
-				}
+			result = load(is);
+		} finally {
+			this.storage = null;
+			this.is = null;
+			this.undecodedArrays = null;
+
+			for(PythonObjectConstructor constructor : constructors){
+				unregisterLocalConstructor(constructor.getModule(), constructor.getName());
 			}
 		}
+
+		if(!undecodedArrays.isEmpty()){
+			decode(undecodedArrays, this.executor);
+		}
+
+		return result;
 	}
 
 	@Override
@@ -73,7 +100,20 @@ public class JoblibUnpickler extends PythonUnpickler {
 			if(head instanceof NumpyArrayWrapper){
 				NumpyArrayWrapper arrayWrapper = (NumpyArrayWrapper)head;
 
-				NDArray array = arrayWrapper.toArray(this.is);
+				File file = null;
+
+				if(this.lazy && (this.storage instanceof FileStorage)){
+					FileStorage fileStorage = (FileStorage)this.storage;
+
+					file = fileStorage.ensureOpen();
+				}
+
+				NDArray array = arrayWrapper.toArray(this.is, file, !this.parallel);
+
+				// Payloads that were read (or mapped), but not decoded
+				if(this.parallel && (array.getData() instanceof ByteBuffer)){
+					this.undecodedArrays.add(array);
+				}
 
 				replaceHead(array);
 			}
@@ -82,5 +122,79 @@ public class JoblibUnpickler extends PythonUnpickler {
 		return result;
 	}
 
-	private static final Object LOCK = new Object();
+	public boolean isLazy(){
+		return this.lazy;
+	}
+
+	/**
+	 * <p>
+	 * Toggles the lazy loading of <code>NumpyArrayWrapper</code> payloads.
+	 * </p>
+	 *
+	 * <p>
+	 * In lazy mode, the payloads of simple boolean and numeric arrays are skipped over during unpickling,
+	 * and read back from the file (by their recorded position and size) when the array content is first requested.
+	 * Lazy mode is applicable to {@link FileStorage} only.
+	 * The file must not be modified or deleted as long as the unpickled arrays are in use.
+	 * </p>
+	 */
+	public JoblibUnpickler setLazy(boolean lazy){
+		this.lazy = lazy;
+
+		return this;
+	}
+
+	public boolean isParallel(){
+		return this.parallel;
+	}
+
+	/**
+	 * <p>
+	 * Toggles the concurrent decoding of <code>NumpyArrayWrapper</code> payloads.
+	 * </p>
+	 *
+	 * <p>
+	 * In parallel mode, the payloads of simple boolean and numeric arrays are read (or mapped) during unpickling,
+	 * and then decoded concurrently using the {@link #getExecutor() executor} before returning.
+	 * Payloads that are loaded lazily are not affected.
+	 * </p>
+	 */
+	public JoblibUnpickler setParallel(boolean parallel){
+		this.parallel = parallel;
+
+		return this;
+	}
+
+	public Executor getExecutor(){
+		return this.executor;
+	}
+
+	/**
+	 * @param executor The executor for decoding payloads in parallel mode.
+	 * Defaults to {@link ForkJoinPool#commonPool()}.
+	 */
+	public JoblibUnpickler setExecutor(Executor executor){
+		this.executor = Objects.requireNonNull(executor);
+
+		return this;
+	}
+
+	static
+	private void decode(List<NDArray> arrays, Executor executor){
+		CompletableFuture<?>[] futures = arrays.stream()
+			.map(array -> CompletableFuture.runAsync(array::getValues, executor))
+			.toArray(CompletableFuture[]::new);
+
+		try {
+			CompletableFuture.allOf(futures).join();
+		} catch(CompletionException ce){
+			Throwable cause = ce.getCause();
+
+			if(cause instanceof RuntimeException){
+				throw (RuntimeException)cause;
+			}
+
+			throw ce;
+		}
+	}
 }
\ No newline at end of file
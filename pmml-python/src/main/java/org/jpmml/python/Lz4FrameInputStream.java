@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <p>
+ * An LZ4 frame format decompressing input stream.
+ * </p>
+ *
+ * <p>
+ * Supports both independent and linked blocks, and concatenated (incl. skippable) frames.
+ * Block and content checksums are skipped over, but not verified.
+ * Preset dictionaries are not supported.
+ * </p>
+ *
+ * @see <a href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Frame_format.md">LZ4 Frame Format Description</a>
+ */
+public class Lz4FrameInputStream extends InputStream {
+
+	private InputStream in = null;
+
+	private byte[] input = null;
+
+	private byte[] output = null;
+
+	private int outputPosition = 0;
+
+	private int outputLimit = 0;
+
+	private boolean blockIndependence = false;
+
+	private boolean blockChecksum = false;
+
+	private boolean contentChecksum = false;
+
+	private boolean frameOpen = false;
+
+	private boolean finished = false;
+
+
+	public Lz4FrameInputStream(InputStream in){
+		this.in = in;
+	}
+
+	@Override
+	public int read() throws IOException {
+
+		if(!ensureOutput()){
+			return -1;
+		}
+
+		return (this.output[this.outputPosition++] & 0xFF);
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+
+		if(offset < 0 || length < 0 || length > bytes.length - offset){
+			throw new IndexOutOfBoundsException();
+		} // End if
+
+		if(length == 0){
+			return 0;
+		} // End if
+
+		if(!ensureOutput()){
+			return -1;
+		}
+
+		int count = Math.min(length, this.outputLimit - this.outputPosition);
+
+		System.arraycopy(this.output, this.outputPosition, bytes, offset, count);
+
+		this.outputPosition += count;
+
+		return count;
+	}
+
+	@Override
+	public int available() throws IOException {
+		ensureOpen();
+
+		return (this.outputLimit - this.outputPosition);
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		if(this.in == null){
+			return;
+		}
+
+		try {
+			this.in.close();
+		} finally {
+			this.in = null;
+			this.input = null;
+			this.output = null;
+		}
+	}
+
+	private boolean ensureOutput() throws IOException {
+		ensureOpen();
+
+		while(this.outputPosition >= this.outputLimit){
+
+			if(this.finished){
+				return false;
+			} // End if
+
+			if(!this.frameOpen){
+
+				if(!readFrameHeader()){
+					this.finished = true;
+
+					return false;
+				}
+
+				continue;
+			}
+
+			readBlock();
+		}
+
+		return true;
+	}
+
+	private boolean readFrameHeader() throws IOException {
+
+		while(true){
+			byte[] magicBytes = this.in.readNBytes(4);
+
+			if(magicBytes.length == 0){
+				return false;
+			} else
+
+			if(magicBytes.length < 4){
+				throw new EOFException();
+			}
+
+			int magic = getIntLE(magicBytes, 0);
+
+			if(magic == Lz4FrameInputStream.MAGIC){
+				break;
+			} else
+
+			if((magic & 0xFFFFFFF0) == Lz4FrameInputStream.SKIPPABLE_MAGIC){
+				long size = readIntLE() & 0xFFFFFFFFL;
+
+				skipFully(size);
+
+				continue;
+			}
+
+			throw new IOException("Invalid LZ4 frame magic number 0x" + Integer.toHexString(magic));
+		}
+
+		int flg = readByte();
+		int bd = readByte();
+
+		int version = (flg >>> 6) & 0x03;
+		if(version != 0x01){
+			throw new IOException("Unsupported LZ4 frame version " + version);
+		}
+
+		this.blockIndependence = (flg & 0x20) != 0;
+		this.blockChecksum = (flg & 0x10) != 0;
+		this.contentChecksum = (flg & 0x04) != 0;
+
+		boolean contentSize = (flg & 0x08) != 0;
+		boolean dictId = (flg & 0x01) != 0;
+
+		if(dictId){
+			throw new IOException("LZ4 preset dictionaries are not supported");
+		}
+
+		int blockMaxSize;
+
+		switch((bd >>> 4) & 0x07){
+			case 4:
+				blockMaxSize = 64 * 1024;
+				break;
+			case 5:
+				blockMaxSize = 256 * 1024;
+				break;
+			case 6:
+				blockMaxSize = 1024 * 1024;
+				break;
+			case 7:
+				blockMaxSize = 4 * 1024 * 1024;
+				break;
+			default:
+				throw new IOException("Invalid LZ4 block maximum size");
+		}
+
+		if(contentSize){
+			skipFully(8);
+		}
+
+		// Header checksum
+		readByte();
+
+		if(this.input == null || this.input.length < blockMaxSize){
+			this.input = new byte[blockMaxSize];
+		}
+
+		int outputSize = (this.blockIndependence ? blockMaxSize : (Lz4FrameInputStream.WINDOW_SIZE + blockMaxSize));
+
+		if(this.output == null || this.output.length < outputSize){
+			this.output = new byte[outputSize];
+		}
+
+		this.outputPosition = 0;
+		this.outputLimit = 0;
+
+		this.frameOpen = true;
+
+		return true;
+	}
+
+	private void readBlock() throws IOException {
+		int blockSize = readIntLE();
+
+		// End mark
+		if(blockSize == 0){
+
+			if(this.contentChecksum){
+				skipFully(4);
+			}
+
+			this.frameOpen = false;
+
+			return;
+		}
+
+		boolean compressed = (blockSize & 0x80000000) == 0;
+
+		blockSize &= 0x7FFFFFFF;
+
+		if(blockSize > this.input.length){
+			throw new IOException("Invalid LZ4 block size " + blockSize);
+		}
+
+		readFully(this.input, blockSize);
+
+		if(this.blockChecksum){
+			skipFully(4);
+		}
+
+		int start = 0;
+
+		// Retain the sliding window of previously decompressed data
+		if(!this.blockIndependence){
+			start = this.outputLimit;
+
+			if(start > Lz4FrameInputStream.WINDOW_SIZE){
+				System.arraycopy(this.output, start - Lz4FrameInputStream.WINDOW_SIZE, this.output, 0, Lz4FrameInputStream.WINDOW_SIZE);
+
+				start = Lz4FrameInputStream.WINDOW_SIZE;
+			}
+		}
+
+		int end;
+
+		if(compressed){
+			end = decompressBlock(this.input, blockSize, this.output, start);
+		} else
+
+		{
+			System.arraycopy(this.input, 0, this.output, start, blockSize);
+
+			end = start + blockSize;
+		}
+
+		this.outputPosition = start;
+		this.outputLimit = end;
+	}
+
+	private int readByte() throws IOException {
+		int result = this.in.read();
+
+		if(result < 0){
+			throw new EOFException();
+		}
+
+		return result;
+	}
+
+	private int readIntLE() throws IOException {
+		byte[] bytes = new byte[4];
+
+		readFully(bytes, bytes.length);
+
+		return getIntLE(bytes, 0);
+	}
+
+	private void readFully(byte[] bytes, int length) throws IOException {
+		int count = this.in.readNBytes(bytes, 0, length);
+
+		if(count != length){
+			throw new EOFException();
+		}
+	}
+
+	private void skipFully(long n) throws IOException {
+
+		while(n > 0){
+			long count = this.in.skip(n);
+
+			if(count <= 0){
+				readByte();
+
+				count = 1;
+			}
+
+			n -= count;
+		}
+	}
+
+	private void ensureOpen() throws IOException {
+
+		if(this.in == null){
+			throw new IOException("Stream closed");
+		}
+	}
+
+	/**
+	 * @return The end position of decompressed data.
+	 */
+	static
+	int decompressBlock(byte[] src, int srcLength, byte[] dst, int dstPosition) throws IOException {
+		int srcPosition = 0;
+
+		try {
+			while(true){
+				int token = src[srcPosition++] & 0xFF;
+
+				// Literals
+				int literalLength = token >>> 4;
+				if(literalLength == 0x0F){
+					int b;
+
+					do {
+						b = src[srcPosition++] & 0xFF;
+
+						literalLength += b;
+					} while(b == 0xFF);
+				}
+
+				System.arraycopy(src, srcPosition, dst, dstPosition, literalLength);
+
+				srcPosition += literalLength;
+				dstPosition += literalLength;
+
+				// The last sequence contains only literals
+				if(srcPosition >= srcLength){
+					break;
+				}
+
+				// Match
+				int offset = (src[srcPosition] & 0xFF) | ((src[srcPosition + 1] & 0xFF) << 8);
+
+				srcPosition += 2;
+
+				if(offset == 0 || offset > dstPosition){
+					throw new IOException("Invalid LZ4 match offset " + offset);
+				}
+
+				int matchLength = token & 0x0F;
+				if(matchLength == 0x0F){
+					int b;
+
+					do {
+						b = src[srcPosition++] & 0xFF;
+
+						matchLength += b;
+					} while(b == 0xFF);
+				}
+
+				matchLength += 4;
+
+				int matchPosition = dstPosition - offset;
+
+				if(offset >= matchLength){
+					System.arraycopy(dst, matchPosition, dst, dstPosition, matchLength);
+				} else
+
+				{
+					// Overlapping copy
+					for(int i = 0; i < matchLength; i++){
+						dst[dstPosition + i] = dst[matchPosition + i];
+					}
+				}
+
+				dstPosition += matchLength;
+			}
+		} catch(IndexOutOfBoundsException ioobe){
+			throw new IOException("Malformed LZ4 block", ioobe);
+		}
+
+		if(srcPosition != srcLength){
+			throw new IOException("Malformed LZ4 block");
+		}
+
+		return dstPosition;
+	}
+
+	static
+	private int getIntLE(byte[] bytes, int offset){
+		return (bytes[offset] & 0xFF) | ((bytes[offset + 1] & 0xFF) << 8) | ((bytes[offset + 2] & 0xFF) << 16) | ((bytes[offset + 3] & 0xFF) << 24);
+	}
+
+	private static final int MAGIC = 0x184D2204;
+
+	private static final int SKIPPABLE_MAGIC = 0x184D2A50;
+
+	private static final int WINDOW_SIZE = 64 * 1024;
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ * A file storage that memory-maps the main file.
+ * </p>
+ *
+ * <p>
+ * The payloads of simple boolean and numeric arrays are not copied into the heap during unpickling.
+ * Instead, the unpickled {@link numpy.core.NDArray} objects keep a reference to the mapped region, and decode it on first access.
+ * </p>
+ *
+ * @see StorageUtil#createStorage(File, boolean)
+ */
+public class MappedFileStorage extends FileStorage {
+
+	public MappedFileStorage(File file){
+		super(file);
+	}
+
+	@Override
+	public InputStream getObject() throws IOException {
+		File file = ensureOpen();
+
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+			return new MappedInputStream(map(channel));
+		}
+	}
+
+	static
+	private ByteBuffer[] map(FileChannel channel) throws IOException {
+		long size = channel.size();
+
+		int count = (int)((size + (MappedFileStorage.CHUNK_SIZE - 1)) / MappedFileStorage.CHUNK_SIZE);
+
+		ByteBuffer[] result = new ByteBuffer[count];
+
+		for(int i = 0; i < count; i++){
+			long position = (long)i * MappedFileStorage.CHUNK_SIZE;
+
+			result[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MappedFileStorage.CHUNK_SIZE, size - position));
+		}
+
+		return result;
+	}
+
+	/**
+	 * The maximum size of a single mapping.
+	 * An array payload that crosses the boundary between two mappings is copied.
+	 */
+	private static final long CHUNK_SIZE = 1L << 30;
+}
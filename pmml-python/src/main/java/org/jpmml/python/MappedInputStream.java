@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An input stream over one or more (memory-mapped) byte buffers.
+ *
+ * @see MappedFileStorage
+ */
+public class MappedInputStream extends InputStream {
+
+	private ByteBuffer[] buffers = null;
+
+	private int index = 0;
+
+
+	public MappedInputStream(ByteBuffer... buffers){
+		this.buffers = buffers;
+	}
+
+	@Override
+	public int read() throws IOException {
+		ByteBuffer buffer = ensureBuffer();
+
+		if(buffer == null){
+			return -1;
+		}
+
+		return (buffer.get() & 0xFF);
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+
+		if(length == 0){
+			return 0;
+		}
+
+		int count = 0;
+
+		while(count < length){
+			ByteBuffer buffer = ensureBuffer();
+
+			if(buffer == null){
+				break;
+			}
+
+			int chunkLength = Math.min(length - count, buffer.remaining());
+
+			buffer.get(bytes, offset + count, chunkLength);
+
+			count += chunkLength;
+		}
+
+		return (count > 0 ? count : -1);
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long count = 0;
+
+		while(count < n){
+			ByteBuffer buffer = ensureBuffer();
+
+			if(buffer == null){
+				break;
+			}
+
+			int chunkLength = (int)Math.min(n - count, buffer.remaining());
+
+			buffer.position(buffer.position() + chunkLength);
+
+			count += chunkLength;
+		}
+
+		return count;
+	}
+
+	@Override
+	public int available() throws IOException {
+		ByteBuffer buffer = ensureBuffer();
+
+		if(buffer == null){
+			return 0;
+		}
+
+		return buffer.remaining();
+	}
+
+	/**
+	 * <p>
+	 * Reads the specified number of bytes as a read-only buffer.
+	 * </p>
+	 *
+	 * <p>
+	 * If the requested region lies within a single underlying buffer, then the result is a view of it (ie. no bytes are copied).
+	 * Otherwise, the result is a copy.
+	 * </p>
+	 */
+	public ByteBuffer readBuffer(int size) throws IOException {
+		ByteBuffer buffer = ensureBuffer();
+
+		if(buffer != null && buffer.remaining() >= size){
+			ByteBuffer result = buffer.slice()
+				.limit(size);
+
+			buffer.position(buffer.position() + size);
+
+			return result.asReadOnlyBuffer();
+		}
+
+		byte[] bytes = readNBytes(size);
+		if(bytes.length != size){
+			throw new EOFException();
+		}
+
+		ByteBuffer result = ByteBuffer.wrap(bytes);
+
+		return result.asReadOnlyBuffer();
+	}
+
+	private ByteBuffer ensureBuffer() throws IOException {
+		ByteBuffer[] buffers = this.buffers;
+
+		if(buffers == null){
+			throw new IOException();
+		}
+
+		while(this.index < buffers.length){
+			ByteBuffer buffer = buffers[this.index];
+
+			if(buffer.hasRemaining()){
+				return buffer;
+			}
+
+			this.index++;
+		}
+
+		return null;
+	}
+
+	@Override
+	public void close(){
+		this.buffers = null;
+	}
+}
@@ -0,0 +1,521 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.dmg.pmml.Apply;
+import org.dmg.pmml.Array;
+import org.dmg.pmml.CompoundPredicate;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.Expression;
+import org.dmg.pmml.False;
+import org.dmg.pmml.FieldRef;
+import org.dmg.pmml.PMMLFunctions;
+import org.dmg.pmml.Predicate;
+import org.dmg.pmml.SimplePredicate;
+import org.dmg.pmml.SimpleSetPredicate;
+import org.dmg.pmml.True;
+import org.jpmml.converter.Feature;
+import org.jpmml.converter.FieldNameUtil;
+import org.jpmml.converter.PMMLUtil;
+import org.jpmml.converter.TypeUtil;
+import org.jpmml.converter.ValueUtil;
+import org.jpmml.python.ast.BinaryExpr;
+import org.jpmml.python.ast.BoolExpr;
+import org.jpmml.python.ast.CallExpr;
+import org.jpmml.python.ast.CompareExpr;
+import org.jpmml.python.ast.Expr;
+import org.jpmml.python.ast.ExprVisitor;
+import org.jpmml.python.ast.IfExpr;
+import org.jpmml.python.ast.ListExpr;
+import org.jpmml.python.ast.LiteralExpr;
+import org.jpmml.python.ast.MethodCallExpr;
+import org.jpmml.python.ast.NameExpr;
+import org.jpmml.python.ast.SliceExpr;
+import org.jpmml.python.ast.SubscriptExpr;
+import org.jpmml.python.ast.UnaryExpr;
+
+/**
+ * <p>
+ * Emits PMML predicates for Python syntax trees.
+ * </p>
+ *
+ * <p>
+ * Intermediate results are features, field references, function applications and literal values,
+ * which are converted to predicates at logical operators and comparisons.
+ * </p>
+ *
+ * @see PredicateTranslator
+ */
+class PredicateEmitter implements ExprVisitor<Object> {
+
+	private PredicateTranslator translator = null;
+
+
+	PredicateEmitter(PredicateTranslator translator){
+		setTranslator(translator);
+	}
+
+	public Predicate emitPredicate(Expr expr){
+		return asPredicate(expr.accept(this));
+	}
+
+	@Override
+	public Object visit(NameExpr nameExpr){
+		PredicateTranslator translator = getTranslator();
+
+		Scope scope = translator.ensureScope();
+
+		String dottedName = translator.canonicalizeDottedName(nameExpr.getDottedName());
+
+		Feature feature = scope.getFeature(dottedName);
+
+		return feature;
+	}
+
+	@Override
+	public Object visit(SubscriptExpr subscriptExpr){
+		PredicateTranslator translator = getTranslator();
+
+		Scope scope = translator.ensureScope();
+
+		String dottedName = translator.canonicalizeDottedName(subscriptExpr.getDottedName());
+		Object column = subscriptExpr.getColumn();
+
+		Feature feature;
+
+		if(column instanceof Integer){
+			feature = scope.getFeature(dottedName, (Integer)column);
+		} else
+
+		{
+			feature = scope.getFeature(dottedName, (String)column);
+		}
+
+		return feature;
+	}
+
+	@Override
+	public Object visit(CallExpr callExpr){
+		PredicateTranslator translator = getTranslator();
+
+		String dottedName = translator.canonicalizeDottedName(callExpr.getDottedName());
+
+		List<Object> arguments = new ArrayList<>();
+
+		List<Expr> exprs = callExpr.getArguments();
+		for(Expr expr : exprs){
+			arguments.add(asArgument(expr.accept(this)));
+		}
+
+		return translator.encodeFunction(dottedName, arguments);
+	}
+
+	@Override
+	public Object visit(MethodCallExpr methodCallExpr){
+		throw new OperationException("Method calls are not supported");
+	}
+
+	@Override
+	public Object visit(SliceExpr sliceExpr){
+		throw new OperationException("Slicing is not supported");
+	}
+
+	@Override
+	public Object visit(LiteralExpr literalExpr){
+		return literalExpr.getValue();
+	}
+
+	@Override
+	public Object visit(UnaryExpr unaryExpr){
+		UnaryExpr.Operator operator = unaryExpr.getOperator();
+		Expr operand = unaryExpr.getOperand();
+
+		switch(operator){
+			case PLUS:
+				return operand.accept(this);
+			case MINUS:
+				return ValueUtil.toNegative(asValue(operand.accept(this)));
+			default:
+				throw new OperationException("Logical negation is not supported");
+		}
+	}
+
+	@Override
+	public Object visit(BinaryExpr binaryExpr){
+		throw new OperationException("Arithmetic operations are not supported");
+	}
+
+	@Override
+	public Object visit(BoolExpr boolExpr){
+		BoolExpr.Operator operator = boolExpr.getOperator();
+
+		Predicate left = asPredicate((boolExpr.getLeft()).accept(this));
+		Predicate right = asPredicate((boolExpr.getRight()).accept(this));
+
+		switch(operator){
+			case AND:
+				return createCompoundPredicate(left, CompoundPredicate.BooleanOperator.AND, right);
+			case OR:
+				return createCompoundPredicate(left, CompoundPredicate.BooleanOperator.OR, right);
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	@Override
+	public Object visit(CompareExpr compareExpr){
+		List<CompareExpr.Operator> operators = compareExpr.getOperators();
+		List<Expr> comparators = compareExpr.getComparators();
+
+		List<Predicate> predicates = new ArrayList<>();
+
+		Object prevRight = (compareExpr.getLeft()).accept(this);
+
+		for(int i = 0; i < operators.size(); i++){
+			CompareExpr.Operator operator = operators.get(i);
+			Expr comparator = comparators.get(i);
+
+			Predicate predicate;
+			Object right;
+
+			switch(operator){
+				case IS:
+					predicate = createSimplePredicate(ensureOperand(prevRight), SimplePredicate.Operator.IS_MISSING, null);
+					right = null;
+					break;
+				case IS_NOT:
+					predicate = createSimplePredicate(ensureOperand(prevRight), SimplePredicate.Operator.IS_NOT_MISSING, null);
+					right = null;
+					break;
+				case IN:
+					predicate = createSimpleSetPredicate(ensureOperand(prevRight), SimpleSetPredicate.BooleanOperator.IS_IN, comparator.accept(this));
+					right = null;
+					break;
+				case NOT_IN:
+					predicate = createSimpleSetPredicate(ensureOperand(prevRight), SimpleSetPredicate.BooleanOperator.IS_NOT_IN, comparator.accept(this));
+					right = null;
+					break;
+				default:
+					right = comparator.accept(this);
+					predicate = createComparisonPredicate(ensureOperand(prevRight), translateRelationalOperator(operator), right);
+					break;
+			}
+
+			predicates.add(predicate);
+
+			prevRight = right;
+		}
+
+		if(predicates.size() == 1){
+			return predicates.get(0);
+		}
+
+		return new CompoundPredicate(CompoundPredicate.BooleanOperator.AND, predicates);
+	}
+
+	@Override
+	public Object visit(ListExpr listExpr){
+		List<Object> values = new ArrayList<>();
+
+		List<Expr> elements = listExpr.getElements();
+		for(Expr element : elements){
+			values.add(asValue(element.accept(this)));
+		}
+
+		return createArray(values);
+	}
+
+	@Override
+	public Object visit(IfExpr ifExpr){
+		throw new OperationException("Conditional expressions are not supported");
+	}
+
+	public PredicateTranslator getTranslator(){
+		return this.translator;
+	}
+
+	private void setTranslator(PredicateTranslator translator){
+		this.translator = Objects.requireNonNull(translator);
+	}
+
+	static
+	private SimplePredicate.Operator translateRelationalOperator(CompareExpr.Operator operator){
+
+		switch(operator){
+			case EQUAL:
+				return SimplePredicate.Operator.EQUAL;
+			case NOT_EQUAL:
+				return SimplePredicate.Operator.NOT_EQUAL;
+			case LESS_THAN:
+				return SimplePredicate.Operator.LESS_THAN;
+			case LESS_OR_EQUAL:
+				return SimplePredicate.Operator.LESS_OR_EQUAL;
+			case GREATER_THAN:
+				return SimplePredicate.Operator.GREATER_THAN;
+			case GREATER_OR_EQUAL:
+				return SimplePredicate.Operator.GREATER_OR_EQUAL;
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	static
+	private Object ensureOperand(Object object){
+		
+		if(object == null){
+			throw new OperationException("Operand is not defined");
+		}
+		
+		return object;
+	}
+	
+	static
+	private SimplePredicate.Operator flipRelationalOperator(SimplePredicate.Operator operator){
+
+		switch(operator){
+			case EQUAL:
+			case NOT_EQUAL:
+				return operator;
+			case LESS_THAN:
+				return SimplePredicate.Operator.GREATER_THAN;
+			case LESS_OR_EQUAL:
+				return SimplePredicate.Operator.GREATER_OR_EQUAL;
+			case GREATER_THAN:
+				return SimplePredicate.Operator.LESS_THAN;
+			case GREATER_OR_EQUAL:
+				return SimplePredicate.Operator.LESS_OR_EQUAL;
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	static
+	private String getOnlyArgument(Apply apply){
+		List<Expression> expressions = apply.getExpressions();
+
+		ClassDictUtil.checkSize(1, expressions);
+
+		FieldRef fieldRef = (FieldRef)expressions.get(0);
+
+		return fieldRef.requireField();
+	}
+
+	static
+	private Array createArray(List<?> values){
+		DataType dataType = TypeUtil.getDataType(values, DataType.STRING);
+
+		return PMMLUtil.createArray(dataType, values);
+	}
+
+	static
+	private SimplePredicate createSimplePredicate(Object left, SimplePredicate.Operator operator, Object right){
+		String name = asFieldName(left);
+		Object value = (right != null ? asValue(right) : null);
+
+		return new SimplePredicate(name, operator, value);
+	}
+
+	static
+	private SimpleSetPredicate createSimpleSetPredicate(Object left, SimpleSetPredicate.BooleanOperator booleanOperator, Object right){
+		String name = asFieldName(left);
+		Array array = (Array)right;
+
+		return new SimpleSetPredicate(name, booleanOperator, array);
+	}
+
+	static
+	private CompoundPredicate createCompoundPredicate(Predicate left, CompoundPredicate.BooleanOperator booleanOperator, Predicate right){
+
+		if(left instanceof CompoundPredicate){
+			CompoundPredicate compoundPredicate = (CompoundPredicate)left;
+
+			if(compoundPredicate.requireBooleanOperator() == booleanOperator){
+				compoundPredicate.addPredicates(right);
+
+				return compoundPredicate;
+			}
+		}
+
+		CompoundPredicate compoundPredicate = new CompoundPredicate(booleanOperator, null)
+			.addPredicates(left, right);
+
+		return compoundPredicate;
+	}
+
+	static
+	private SimplePredicate createComparisonPredicate(Object left, SimplePredicate.Operator operator, Object right){
+	
+		if(isFieldName(left) && isValue(right)){
+			return createSimplePredicate(left, operator, right);
+		} else
+			
+		if(isValue(left) && isFieldName(right)){
+			return createSimplePredicate(right, flipRelationalOperator(operator), left);
+		}
+
+		throw new OperationException("Comparison requires a field name side and a value side");
+	}
+
+	static
+	private boolean isFieldName(Object object){
+
+		try {
+			asFieldName(object);
+
+			return true;
+		} catch(OperationException oe){
+			return false;
+		}
+	}
+
+	static
+	private String asFieldName(Object object){
+
+		if(object instanceof Feature){
+			Feature feature = (Feature)object;
+
+			return feature.getName();
+		} // End if
+
+		if(object instanceof Apply){
+			Apply apply = (Apply)object;
+
+			String name = formatApply(apply);
+
+			return name;
+		} else
+
+		if(object instanceof FieldRef){
+			FieldRef fieldRef = (FieldRef)object;
+
+			return fieldRef.requireField();
+		} // End if
+
+		throw new OperationException("The left-hand side of the predicate (" + object + ") is not a feature reference");
+	}
+
+	static
+	private boolean isValue(Object object){
+
+		try {
+			asValue(object);
+
+			return true;
+		} catch(OperationException oe){
+			return false;
+		}
+	}
+
+	static
+	private Object asValue(Object object){
+
+		if(object instanceof Boolean){
+			return (Boolean)object;
+		} else
+
+		if(object instanceof Integer){
+			return (Integer)object;
+		} else
+
+		if(object instanceof Double){
+			return (Double)object;
+		} else
+
+		if(object instanceof String){
+			return (String)object;
+		}
+
+		throw new OperationException("The right-hand side of the predicate (" + object + ") is not a value");
+	}
+
+	static
+	private Predicate asPredicate(Object object){
+
+		if(object instanceof Predicate){
+			Predicate predicate = (Predicate)object;
+
+			return predicate;
+		} // End if
+
+		if(object instanceof Apply){
+			Apply apply = (Apply)object;
+
+			switch(apply.requireFunction()){
+				case PMMLFunctions.ISMISSING:
+					return new SimplePredicate(getOnlyArgument(apply), SimplePredicate.Operator.IS_MISSING, null);
+				case PMMLFunctions.ISNOTMISSING:
+					return new SimplePredicate(getOnlyArgument(apply), SimplePredicate.Operator.IS_NOT_MISSING, null);
+				default:
+					break;
+			}
+		} // End if
+
+		if(object instanceof Feature){
+			Feature feature = (Feature)object;
+
+			if(feature.getDataType() == DataType.BOOLEAN){
+				return new SimplePredicate(feature.getName(), SimplePredicate.Operator.EQUAL, Boolean.TRUE);
+			}
+		} // End if
+
+		if(Objects.equals(Boolean.FALSE, object)){
+			return False.INSTANCE;
+		} else
+			
+		if(Objects.equals(Boolean.TRUE, object)){
+			return True.INSTANCE;
+		} // End if
+
+		throw new OperationException("The expression (" + object + ") is not a predicate");
+	}
+
+	static
+	private Object asArgument(Object object){
+
+		if(object instanceof Feature){
+			Feature feature = (Feature)object;
+			
+			return feature;
+		}
+
+		throw new OperationException("The function argument (" + object + ") is not a feature reference");
+	}
+
+	static
+	String formatApply(Apply apply){
+		String function = apply.requireFunction();
+		List<String> arguments = new ArrayList<>();
+
+		if(apply.hasExpressions()){
+			List<Expression> expressions = apply.getExpressions();
+			
+			for(int i = 0; i < expressions.size(); i++){
+				FieldRef fieldRef = (FieldRef)expressions.get(i);
+				
+				arguments.add(fieldRef.requireField());
+			}
+		}
+
+		return FieldNameUtil.create(function, arguments);
+	}
+}
\ No newline at end of file
@@ -20,13 +20,24 @@ package org.jpmml.python;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 
+import net.razorvine.pickle.IObjectConstructor;
 import net.razorvine.pickle.Opcodes;
 import net.razorvine.pickle.PickleException;
 import net.razorvine.pickle.Unpickler;
+import net.razorvine.pickle.objects.ClassDictConstructor;
 
 public class PythonUnpickler extends Unpickler {
 
+	private Map<String, IObjectConstructor> objectConstructors = null;
+
+	private Iterator<? extends ByteBuffer> buffers = null;
+
+
 	public Object load(Storage storage) throws PickleException, IOException {
 
 		try(InputStream is = storage.getObject()){
@@ -41,6 +52,18 @@ public class PythonUnpickler extends Unpickler {
 		if(key == Opcodes.GLOBAL || key == Opcodes.STACK_GLOBAL){
 			Object head = peekHead();
 
+			// Modify the stack by replacing the global constructor with a local constructor
+			if(this.objectConstructors != null && (head instanceof ClassDictConstructor)){
+				ClassDictConstructor dictConstructor = (ClassDictConstructor)head;
+
+				IObjectConstructor objectConstructor = this.objectConstructors.get(ClassDictConstructorUtil.getClassName(dictConstructor));
+				if(objectConstructor != null){
+					replaceHead(objectConstructor);
+
+					head = objectConstructor;
+				}
+			} // End if
+
 			if(head instanceof IConstantConstructor){
 				IConstantConstructor constantConstructor = (IConstantConstructor)head;
 
@@ -48,11 +71,86 @@ public class PythonUnpickler extends Unpickler {
 
 				replaceHead(value);
 			}
+		} else
+
+		if(key == Opcodes.READONLY_BUFFER){
+			Object head = peekHead();
+
+			if(head instanceof ByteBuffer){
+				ByteBuffer buffer = (ByteBuffer)head;
+
+				if(!buffer.isReadOnly()){
+					replaceHead(buffer.asReadOnlyBuffer());
+				}
+			}
 		}
 
 		return result;
 	}
 
+	/**
+	 * <p>
+	 * Supplies out-of-band buffers (pickle protocol 5).
+	 * </p>
+	 *
+	 * <p>
+	 * The buffers are consumed in order, one per <code>NEXT_BUFFER</code> opcode.
+	 * They are passed on as views (ie. no bytes are copied),
+	 * so that memory-mapped buffers become the payload of the unpickled Numpy arrays as-is.
+	 * </p>
+	 *
+	 * @see numpy.core.FromBufferConstructor
+	 */
+	public PythonUnpickler setBuffers(Iterable<? extends ByteBuffer> buffers){
+		this.buffers = (buffers != null ? buffers.iterator() : null);
+
+		return this;
+	}
+
+	@Override
+	protected Object next_buffer() throws PickleException, IOException {
+
+		if(this.buffers == null || !this.buffers.hasNext()){
+			throw new PickleException("Pickle stream refers to out-of-band data, but no (more) buffers were supplied");
+		}
+
+		ByteBuffer buffer = this.buffers.next();
+
+		return buffer.slice();
+	}
+
+	/**
+	 * <p>
+	 * Registers a constructor with this unpickler instance.
+	 * </p>
+	 *
+	 * <p>
+	 * Local constructors take precedence over global constructors, as registered using {@link Unpickler#registerConstructor(String, String, IObjectConstructor)}.
+	 * Unlike the latter, they do not affect other unpickler instances, which makes it possible to unpickle concurrently.
+	 * </p>
+	 */
+	public void registerLocalConstructor(String module, String name, IObjectConstructor constructor){
+
+		if(this.objectConstructors == null){
+			this.objectConstructors = new HashMap<>();
+		}
+
+		this.objectConstructors.put(module + "." + name, constructor);
+	}
+
+	public void unregisterLocalConstructor(String module, String name){
+
+		if(this.objectConstructors == null){
+			return;
+		}
+
+		this.objectConstructors.remove(module + "." + name);
+
+		if(this.objectConstructors.isEmpty()){
+			this.objectConstructors = null;
+		}
+	}
+
 	protected Object peekHead(){
 		return super.stack.peek();
 	}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * An input stream that reads ahead of the consumer in a background task.
+ * </p>
+ *
+ * <p>
+ * Typically wraps a decompressing input stream, so that inflation and unpickling proceed concurrently.
+ * </p>
+ */
+public class ReadAheadInputStream extends InputStream {
+
+	private InputStream in = null;
+
+	private BlockingQueue<Object> chunks = null;
+
+	private ByteBuffer chunk = null;
+
+	private Throwable failure = null;
+
+	private volatile Throwable undeliveredFailure = null;
+
+	private volatile boolean closed = false;
+
+
+	public ReadAheadInputStream(InputStream in, Executor executor){
+		this(in, executor, ReadAheadInputStream.CHUNK_SIZE, ReadAheadInputStream.CHUNK_COUNT);
+	}
+
+	public ReadAheadInputStream(InputStream in, Executor executor, int chunkSize, int chunkCount){
+		Objects.requireNonNull(executor);
+
+		if(chunkSize <= 0 || chunkCount <= 0){
+			throw new IllegalArgumentException();
+		}
+
+		this.in = in;
+		this.chunks = new ArrayBlockingQueue<>(chunkCount);
+
+		executor.execute(() -> produce(chunkSize));
+	}
+
+	@Override
+	public int read() throws IOException {
+		ByteBuffer chunk = ensureChunk();
+
+		if(chunk == null){
+			return -1;
+		}
+
+		return (chunk.get() & 0xFF);
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+
+		if(length == 0){
+			return 0;
+		}
+
+		int count = 0;
+
+		while(count < length){
+			// Block only if no bytes have been read yet
+			if(count > 0 && (this.chunk == null || !this.chunk.hasRemaining()) && this.chunks.isEmpty()){
+				break;
+			}
+
+			ByteBuffer chunk = ensureChunk();
+
+			if(chunk == null){
+				break;
+			}
+
+			int chunkLength = Math.min(length - count, chunk.remaining());
+
+			chunk.get(bytes, offset + count, chunkLength);
+
+			count += chunkLength;
+		}
+
+		return (count > 0 ? count : -1);
+	}
+
+	@Override
+	public int available() throws IOException {
+		ByteBuffer chunk = this.chunk;
+
+		if(chunk == null){
+			return 0;
+		}
+
+		return chunk.remaining();
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		if(this.closed){
+			return;
+		}
+
+		this.closed = true;
+
+		// Unblock the producer
+		this.chunks.clear();
+
+		this.chunk = null;
+	}
+
+	private ByteBuffer ensureChunk() throws IOException {
+
+		if(this.closed){
+			throw new IOException("Stream closed");
+		}
+
+		ByteBuffer chunk = this.chunk;
+
+		if(chunk != null && chunk.hasRemaining()){
+			return chunk;
+		} else
+
+		if(chunk == ReadAheadInputStream.EOF){
+			return null;
+		} // End if
+
+		// The producer has terminated, so every later read must fail the same way
+		if(this.failure != null){
+			throw toException(this.failure);
+		}
+
+		Object object = null;
+
+		try {
+			while(object == null){
+				object = this.chunks.poll(ReadAheadInputStream.POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+
+				// The producer has terminated without being able to enqueue its final signal
+				if(object == null){
+					object = this.undeliveredFailure;
+				}
+			}
+		} catch(InterruptedException ie){
+			Thread.currentThread().interrupt();
+
+			throw new InterruptedIOException();
+		}
+
+		if(object instanceof Throwable){
+			Throwable failure = (Throwable)object;
+
+			this.failure = failure;
+
+			throw toException(failure);
+		}
+
+		chunk = (ByteBuffer)object;
+
+		this.chunk = chunk;
+
+		if(chunk == ReadAheadInputStream.EOF){
+			return null;
+		}
+
+		return chunk;
+	}
+
+	private void produce(int chunkSize){
+
+		// The wrapped stream is closed before signalling EOF, so that a failure to close it takes the place of EOF
+		try(InputStream in = this.in){
+
+			while(!this.closed){
+				byte[] bytes = in.readNBytes(chunkSize);
+
+				if(bytes.length == 0){
+					break;
+				} // End if
+
+				if(!put(ByteBuffer.wrap(bytes))){
+					return;
+				}
+			}
+		} catch(Throwable t){
+			// Always signal the consumer, even in case of an Error
+			put(t);
+
+			return;
+		}
+
+		put(ReadAheadInputStream.EOF);
+	}
+
+	/**
+	 * @return <code>true</code> if the object was enqueued, <code>false</code> otherwise.
+	 */
+	private boolean put(Object object){
+
+		try {
+			while(!this.closed){
+
+				if(this.chunks.offer(object, ReadAheadInputStream.POLL_TIMEOUT, TimeUnit.MILLISECONDS)){
+					return true;
+				}
+			}
+		} catch(InterruptedException ie){
+			Thread.currentThread().interrupt();
+
+			if(this.undeliveredFailure == null){
+				InterruptedIOException iioe = new InterruptedIOException("Read-ahead task was interrupted");
+
+				if(object instanceof Throwable){
+					iioe.addSuppressed((Throwable)object);
+				}
+
+				this.undeliveredFailure = iioe;
+			}
+		}
+
+		return false;
+	}
+
+	static
+	private IOException toException(Throwable failure){
+
+		if(failure instanceof RuntimeException){
+			throw (RuntimeException)failure;
+		} else
+
+		if(failure instanceof Error){
+			throw (Error)failure;
+		}
+
+		return new IOException(failure.getMessage(), failure);
+	}
+
+	private static final ByteBuffer EOF = ByteBuffer.allocate(0);
+
+	private static final int CHUNK_SIZE = 1024 * 1024;
+
+	private static final int CHUNK_COUNT = 4;
+
+	private static final long POLL_TIMEOUT = 100L;
+}
\ No newline at end of file
@@ -18,6 +18,12 @@
  */
 package org.jpmml.python;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import org.dmg.pmml.Field;
 import org.jpmml.converter.Feature;
 import org.jpmml.converter.FeatureResolver;
@@ -66,6 +72,20 @@ public class Scope implements FeatureResolver {
 		return null;
 	}
 
+	/**
+	 * <p>
+	 * Gets a value-based signature of this scope.
+	 * Two scopes that have equal signatures must resolve all names to equivalent features.
+	 * </p>
+	 *
+	 * @return The signature, or <code>null</code> if this scope does not support one.
+	 *
+	 * @see TranslationCache
+	 */
+	public List<?> getSignature(){
+		return null;
+	}
+
 	public PMMLEncoder getEncoder(){
 		return this.encoder;
 	}
@@ -73,4 +93,46 @@ public class Scope implements FeatureResolver {
 	private void setEncoder(PMMLEncoder encoder){
 		this.encoder = encoder;
 	}
+
+	static
+	protected List<Object> createSignature(Scope scope, List<? extends Feature> features){
+		List<Object> result = new ArrayList<>();
+
+		result.add(scope.getClass());
+		result.add(getEncoderToken(scope.getEncoder()));
+
+		for(Feature feature : features){
+			result.add(Arrays.asList(feature.getClass(), feature.getName(), feature.getDataType()));
+		}
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Gets an identity token for the specified encoder.
+	 * The token does not reference the encoder, so cache keys do not prevent the encoder from being garbage collected.
+	 * </p>
+	 */
+	static
+	private Object getEncoderToken(PMMLEncoder encoder){
+
+		if(encoder == null){
+			return null;
+		}
+
+		synchronized(Scope.encoderTokens){
+			Object token = Scope.encoderTokens.get(encoder);
+
+			if(token == null){
+				token = new Object();
+
+				Scope.encoderTokens.put(encoder, token);
+			}
+
+			return token;
+		}
+	}
+
+	private static final Map<PMMLEncoder, Object> encoderTokens = new WeakHashMap<>();
 }
\ No newline at end of file
@@ -21,6 +21,8 @@ package org.jpmml.python;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
 
 public class SliceUtil {
 
@@ -95,6 +97,97 @@ public class SliceUtil {
 		return slice(SliceUtil.INDICES, start, stop, step);
 	}
 
+	/**
+	 * <p>
+	 * Creates a virtual sequence, which is equivalent to Python's <code>range(start, stop, step)</code>.
+	 * Elements are computed on access, so the memory footprint is independent of the length.
+	 * </p>
+	 */
+	static
+	public List<Integer> range(int start, int stop, int step){
+
+		if(step == 0){
+			throw new IllegalArgumentException();
+		}
+
+		long length;
+
+		if(step > 0){
+			length = (start < stop) ? ((long)stop - start + step - 1) / step : 0;
+		} else
+
+		{
+			length = (start > stop) ? ((long)start - stop - step - 1) / -step : 0;
+		}
+
+		int size = Math.toIntExact(length);
+
+		List<Integer> result = new RangeList(start, step, size);
+
+		return result;
+	}
+
+	static
+	private class RangeList extends AbstractList<Integer> implements RandomAccess {
+
+		private int start = 0;
+
+		private int step = 0;
+
+		private int size = 0;
+
+
+		private RangeList(int start, int step, int size){
+			this.start = start;
+			this.step = step;
+			this.size = size;
+		}
+
+		@Override
+		public Integer get(int index){
+			Objects.checkIndex(index, this.size);
+
+			return this.start + index * this.step;
+		}
+
+		@Override
+		public int size(){
+			return this.size;
+		}
+
+		@Override
+		public boolean contains(Object object){
+			return indexOf(object) > -1;
+		}
+
+		@Override
+		public int indexOf(Object object){
+
+			if(!(object instanceof Integer)){
+				return -1;
+			}
+
+			long offset = (long)(Integer)object - this.start;
+
+			if(offset % this.step != 0){
+				return -1;
+			}
+
+			long index = offset / this.step;
+
+			if(index < 0 || index >= this.size){
+				return -1;
+			}
+
+			return (int)index;
+		}
+
+		@Override
+		public int lastIndexOf(Object object){
+			return indexOf(object);
+		}
+	}
+
 	private static final List<Integer> INDICES = new AbstractList<Integer>(){
 
 		@Override
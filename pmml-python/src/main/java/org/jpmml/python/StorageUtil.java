@@ -23,6 +23,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PushbackInputStream;
+import java.util.concurrent.Executor;
 
 public class StorageUtil {
 
@@ -31,18 +32,44 @@ public class StorageUtil {
 
 	static
 	public Storage createStorage(File file) throws IOException {
+		return createStorage(file, false);
+	}
+
+	/**
+	 * @param map If <code>true</code>, then an uncompressed file is memory-mapped.
+	 *
+	 * @see MappedFileStorage
+	 */
+	static
+	public Storage createStorage(File file, boolean map) throws IOException {
+		return createStorage(file, map, null);
+	}
+
+	/**
+	 * @param map If <code>true</code>, then an uncompressed file is memory-mapped.
+	 * @param executor If not <code>null</code>, then a compressed file is decompressed in a background task.
+	 *
+	 * @see MappedFileStorage
+	 * @see CompressedInputStreamStorage
+	 */
+	static
+	public Storage createStorage(File file, boolean map, Executor executor) throws IOException {
 		PushbackInputStream is = new PushbackInputStream(new FileInputStream(file), 2);
 
 		CompressedInputStreamStorage.Type type = CompressedInputStreamStorage.detectType(is);
 
 		// If the file contains compressed data, create a limited-functionality (Compressed)InputStreamStorage.
 		if(type != null){
-			return new CompressedInputStreamStorage(is);
+			return new CompressedInputStreamStorage(is, executor);
 		}
 
 		is.close();
 
-		// Otherwise, create an unlimited-functionality FileStorage.
+		// Otherwise, create an unlimited-functionality (Mapped)FileStorage.
+		if(map){
+			return new MappedFileStorage(file);
+		}
+
 		return new FileStorage(file);
 	}
 
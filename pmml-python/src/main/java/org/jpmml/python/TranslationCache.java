@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.dmg.pmml.PMMLObject;
+import org.jpmml.model.SerializationUtil;
+
+/**
+ * <p>
+ * A bounded LRU cache of translation results.
+ * </p>
+ *
+ * <p>
+ * Cached PMML object trees are never exposed to the application code.
+ * Every cache hit returns a deep copy, so that the caller is free to modify it.
+ * </p>
+ *
+ * <p>
+ * Translation results are not shared between encoders.
+ * A translation may register derived fields and functions with the encoder, which the result then refers to by name.
+ * Cache keys hold an identity token of the encoder (instead of the encoder itself),
+ * so the entries of an encoder that is no longer in use are never hit again, and are evicted in LRU order.
+ * </p>
+ *
+ * <p>
+ * Translation results are cached before common subexpression elimination.
+ * </p>
+ *
+ * @see AbstractTranslator#setTranslationCache(TranslationCache)
+ */
+public class TranslationCache {
+
+	private int maximumSize = 0;
+
+	private Map<Object, PMMLObject> entries = null;
+
+	private long hitCount = 0L;
+
+	private long missCount = 0L;
+
+
+	public TranslationCache(int maximumSize){
+
+		if(maximumSize < 1){
+			throw new IllegalArgumentException();
+		}
+
+		this.maximumSize = maximumSize;
+		this.entries = new LinkedHashMap<Object, PMMLObject>(16, 0.75f, true){
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, PMMLObject> entry){
+				return size() > TranslationCache.this.maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * @return A deep copy of the cached translation result, or <code>null</code>.
+	 */
+	public <E extends PMMLObject> E get(Object key, Class<? extends E> clazz){
+		PMMLObject object;
+
+		synchronized(this){
+			object = this.entries.get(key);
+
+			if(object != null){
+				this.hitCount++;
+			} else
+
+			{
+				this.missCount++;
+			}
+		}
+
+		if(object == null){
+			return null;
+		}
+
+		return clazz.cast(copy(object));
+	}
+
+	public void put(Object key, PMMLObject object){
+		object = copy(object);
+
+		synchronized(this){
+			this.entries.put(key, object);
+		}
+	}
+
+	synchronized
+	public void clear(){
+		this.entries.clear();
+	}
+
+	public int getMaximumSize(){
+		return this.maximumSize;
+	}
+
+	synchronized
+	public int size(){
+		return this.entries.size();
+	}
+
+	synchronized
+	public long getHitCount(){
+		return this.hitCount;
+	}
+
+	synchronized
+	public long getMissCount(){
+		return this.missCount;
+	}
+
+	static
+	private <E extends PMMLObject> E copy(E object){
+
+		try {
+			return SerializationUtil.clone(object);
+		} catch(ClassNotFoundException | IOException e){
+			throw new IllegalStateException(e);
+		}
+	}
+}
\ No newline at end of file
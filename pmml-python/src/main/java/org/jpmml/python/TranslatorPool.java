@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A thread-confined pool of translators.
+ * </p>
+ *
+ * <p>
+ * Translators are relatively expensive to construct, because every parser instance allocates its own character stream and token manager buffers.
+ * A pooled translator is rebound to a new scope using {@link AbstractTranslator#reset(Scope)}, and then reused.
+ * </p>
+ *
+ * <pre>
+ * ExpressionTranslator expressionTranslator = pool.acquire(scope);
+ *
+ * try {
+ *   expression = expressionTranslator.translateExpression(string);
+ * } finally {
+ *   pool.release(expressionTranslator);
+ * }
+ * </pre>
+ *
+ * <p>
+ * Acquired translators must be released by the same thread.
+ * An acquired translator has no translation cache and no common subexpression eliminator, and does not simplify expressions.
+ * </p>
+ */
+public class TranslatorPool<T extends AbstractTranslator> {
+
+	private Supplier<? extends T> supplier = null;
+
+	private int maximumSize = 0;
+
+	private ThreadLocal<Deque<T>> translators = ThreadLocal.withInitial(ArrayDeque::new);
+
+
+	public TranslatorPool(Supplier<? extends T> supplier){
+		this(supplier, 4);
+	}
+
+	public TranslatorPool(Supplier<? extends T> supplier, int maximumSize){
+
+		if(maximumSize < 1){
+			throw new IllegalArgumentException();
+		}
+
+		this.supplier = Objects.requireNonNull(supplier);
+		this.maximumSize = maximumSize;
+	}
+
+	public T acquire(Scope scope){
+		Deque<T> translators = this.translators.get();
+
+		T translator = translators.poll();
+		if(translator == null){
+			translator = this.supplier.get();
+		}
+
+		translator.reset(scope);
+
+		return translator;
+	}
+
+	public void release(T translator){
+		Deque<T> translators = this.translators.get();
+
+		if(translators.size() < this.maximumSize){
+			translators.push(translator);
+		}
+	}
+
+	public int getMaximumSize(){
+		return this.maximumSize;
+	}
+
+	static
+	public TranslatorPool<ExpressionTranslator> forExpressionTranslators(){
+		return new TranslatorPool<>(() -> new ExpressionTranslator(new NullProvider()));
+	}
+
+	static
+	public TranslatorPool<PredicateTranslator> forPredicateTranslators(){
+		return new TranslatorPool<>(() -> new PredicateTranslator(new NullProvider()));
+	}
+}
\ No newline at end of file
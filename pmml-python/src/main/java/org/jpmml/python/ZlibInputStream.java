@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * A zlib decompressing input stream.
+ * </p>
+ *
+ * <p>
+ * Compared to {@link java.util.zip.InflaterInputStream}, this class reads compressed data using a much larger buffer,
+ * and inflates it directly into the caller's array (ie. without any intermediate buffering).
+ * </p>
+ */
+public class ZlibInputStream extends InputStream {
+
+	private InputStream in = null;
+
+	private Inflater inflater = new Inflater();
+
+	private byte[] input = null;
+
+	private byte[] singleByte = new byte[1];
+
+	private long startTime = System.nanoTime();
+
+
+	public ZlibInputStream(InputStream in){
+		this(in, ZlibInputStream.BUFFER_SIZE);
+	}
+
+	public ZlibInputStream(InputStream in, int bufferSize){
+
+		if(bufferSize <= 0){
+			throw new IllegalArgumentException();
+		}
+
+		this.in = in;
+		this.input = new byte[bufferSize];
+	}
+
+	@Override
+	public int read() throws IOException {
+		int count = read(this.singleByte, 0, 1);
+
+		if(count < 0){
+			return -1;
+		}
+
+		return (this.singleByte[0] & 0xFF);
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		Inflater inflater = ensureOpen();
+
+		if(offset < 0 || length < 0 || length > bytes.length - offset){
+			throw new IndexOutOfBoundsException();
+		} // End if
+
+		if(length == 0){
+			return 0;
+		}
+
+		try {
+			while(true){
+				int count = inflater.inflate(bytes, offset, length);
+
+				if(count > 0){
+					return count;
+				} // End if
+
+				if(inflater.finished()){
+					return -1;
+				} else
+
+				if(inflater.needsDictionary()){
+					throw new ZipException("Preset dictionary is not supported");
+				} else
+
+				if(inflater.needsInput()){
+					fill(inflater);
+				}
+			}
+		} catch(DataFormatException dfe){
+			String message = dfe.getMessage();
+
+			throw new ZipException(message != null ? message : "Invalid zlib data format");
+		}
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+
+		if(n <= 0){
+			return 0;
+		}
+
+		byte[] buffer = new byte[(int)Math.min(n, ZlibInputStream.BUFFER_SIZE)];
+
+		long count = 0;
+
+		while(count < n){
+			int chunkLength = read(buffer, 0, (int)Math.min(n - count, buffer.length));
+
+			if(chunkLength < 0){
+				break;
+			}
+
+			count += chunkLength;
+		}
+
+		return count;
+	}
+
+	@Override
+	public int available() throws IOException {
+		Inflater inflater = ensureOpen();
+
+		return (inflater.finished() ? 0 : 1);
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		if(this.inflater == null){
+			return;
+		}
+
+		Inflater inflater = this.inflater;
+
+		try {
+			if(logger.isDebugEnabled()){
+				long compressedSize = inflater.getBytesRead();
+				long uncompressedSize = inflater.getBytesWritten();
+
+				long elapsedTime = Math.max(System.nanoTime() - this.startTime, 1L);
+
+				logger.debug("Inflated {} byte(s) to {} byte(s) in {} ms ({} MB/s)", compressedSize, uncompressedSize, elapsedTime / 1_000_000L, (uncompressedSize * 1000L) / elapsedTime);
+			}
+
+			inflater.end();
+
+			this.in.close();
+		} finally {
+			this.in = null;
+			this.inflater = null;
+			this.input = null;
+		}
+	}
+
+	private void fill(Inflater inflater) throws IOException {
+		int count = this.in.read(this.input, 0, this.input.length);
+
+		if(count < 0){
+			throw new EOFException("Unexpected end of zlib data");
+		}
+
+		inflater.setInput(this.input, 0, count);
+	}
+
+	private Inflater ensureOpen() throws IOException {
+
+		if(this.inflater == null){
+			throw new IOException("Stream closed");
+		}
+
+		return this.inflater;
+	}
+
+	private static final int BUFFER_SIZE = 256 * 1024;
+
+	private static final Logger logger = LoggerFactory.getLogger(ZlibInputStream.class);
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * An assert statement.
+ * </p>
+ *
+ * <p>
+ * The message is optional.
+ * </p>
+ */
+public class AssertStmt extends Stmt {
+
+	private Expr test = null;
+
+	private Expr message = null;
+
+
+	public AssertStmt(Expr test, Expr message){
+		setTest(test);
+		setMessage(message);
+	}
+
+	@Override
+	public <R> R accept(StmtVisitor<R> visitor){
+		return visitor.visit(this);
+	}
+
+	public Expr getTest(){
+		return this.test;
+	}
+
+	private void setTest(Expr test){
+		this.test = Objects.requireNonNull(test);
+	}
+
+	public Expr getMessage(){
+		return this.message;
+	}
+
+	private void setMessage(Expr message){
+		this.message = message;
+	}
+}
\ No newline at end of file
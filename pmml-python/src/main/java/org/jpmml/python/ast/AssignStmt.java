@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * An assignment to a local variable.
+ * </p>
+ *
+ * <p>
+ * The type annotation is optional.
+ * </p>
+ */
+public class AssignStmt extends Stmt {
+
+	private String name = null;
+
+	private String type = null;
+
+	private Expr value = null;
+
+
+	public AssignStmt(String name, String type, Expr value){
+		setName(name);
+		setType(type);
+		setValue(value);
+	}
+
+	@Override
+	public <R> R accept(StmtVisitor<R> visitor){
+		return visitor.visit(this);
+	}
+
+	public String getName(){
+		return this.name;
+	}
+
+	private void setName(String name){
+		this.name = Objects.requireNonNull(name);
+	}
+
+	public String getType(){
+		return this.type;
+	}
+
+	private void setType(String type){
+		this.type = type;
+	}
+
+	public Expr getValue(){
+		return this.value;
+	}
+
+	private void setValue(Expr value){
+		this.value = Objects.requireNonNull(value);
+	}
+}
\ No newline at end of file
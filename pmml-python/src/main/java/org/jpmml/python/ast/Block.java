@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * A sequence of statements.
+ * </p>
+ */
+public class Block extends Node {
+
+	private List<Stmt> statements = null;
+
+
+	public Block(List<Stmt> statements){
+		setStatements(statements);
+	}
+
+	public List<Stmt> getStatements(){
+		return this.statements;
+	}
+
+	private void setStatements(List<Stmt> statements){
+		this.statements = Collections.unmodifiableList(new ArrayList<>(statements));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A call of a (dotted) function name.
+ * </p>
+ */
+public class CallExpr extends Expr {
+
+	private String dottedName = null;
+
+	private List<Expr> arguments = null;
+
+
+	public CallExpr(String dottedName, List<Expr> arguments){
+		setDottedName(dottedName);
+		setArguments(arguments);
+	}
+
+	@Override
+	public <R> R accept(ExprVisitor<R> visitor){
+		return visitor.visit(this);
+	}
+
+	public String getDottedName(){
+		return this.dottedName;
+	}
+
+	private void setDottedName(String dottedName){
+		this.dottedName = Objects.requireNonNull(dottedName);
+	}
+
+	public List<Expr> getArguments(){
+		return this.arguments;
+	}
+
+	private void setArguments(List<Expr> arguments){
+		this.arguments = Collections.unmodifiableList(new ArrayList<>(arguments));
+	}
+}
\ No newline at end of file
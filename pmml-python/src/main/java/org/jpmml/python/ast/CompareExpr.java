@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A chain of comparisons.
+ * </p>
+ *
+ * <p>
+ * The comparator of <code>is</code> and <code>is not</code> operators is a <code>None</code> literal. The comparator of <code>in</code> and <code>not in</code> operators is a list.
+ * </p>
+ */
+public class CompareExpr extends Expr {
+
+	private Expr left = null;
+
+	private List<Operator> operators = null;
+
+	private List<Expr> comparators = null;
+
+
+	public CompareExpr(Expr left, List<Operator> operators, List<Expr> comparators){
+
+		if(operators.isEmpty() || (operators.size() != comparators.size())){
+			throw new IllegalArgumentException();
+		}
+
+		setLeft(left);
+		setOperators(operators);
+		setComparators(comparators);
+	}
+
+	@Override
+	public <R> R accept(ExprVisitor<R> visitor){
+		return visitor.visit(this);
+	}
+
+	public Expr getLeft(){
+		return this.left;
+	}
+
+	private void setLeft(Expr left){
+		this.left = Objects.requireNonNull(left);
+	}
+
+	public List<Operator> getOperators(){
+		return this.operators;
+	}
+
+	private void setOperators(List<Operator> operators){
+		this.operators = Collections.unmodifiableList(new ArrayList<>(operators));
+	}
+
+	public List<Expr> getComparators(){
+		return this.comparators;
+	}
+
+	private void setComparators(List<Expr> comparators){
+		this.comparators = Collections.unmodifiableList(new ArrayList<>(comparators));
+	}
+
+	static
+	public enum Operator {
+		EQUAL,
+		NOT_EQUAL,
+		LESS_THAN,
+		LESS_OR_EQUAL,
+		GREATER_THAN,
+		GREATER_OR_EQUAL,
+		IS,
+		IS_NOT,
+		IN,
+		NOT_IN,
+		;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * A function definition.
+ * </p>
+ */
+public class Def extends Node {
+
+	private Signature signature = null;
+
+	private Block body = null;
+
+
+	public Def(Signature signature, Block body){
+		setSignature(signature);
+		setBody(body);
+	}
+
+	public Signature getSignature(){
+		return this.signature;
+	}
+
+	private void setSignature(Signature signature){
+		this.signature = Objects.requireNonNull(signature);
+	}
+
+	public Block getBody(){
+		return this.body;
+	}
+
+	private void setBody(Block body){
+		this.body = Objects.requireNonNull(body);
+	}
+}
\ No newline at end of file
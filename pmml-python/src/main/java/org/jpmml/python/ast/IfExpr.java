@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * A conditional expression.
+ * </p>
+ */
+public class IfExpr extends Expr {
+
+	private Expr test = null;
+
+	private Expr body = null;
+
+	private Expr orElse = null;
+
+
+	public IfExpr(Expr test, Expr body, Expr orElse){
+		setTest(test);
+		setBody(body);
+		setOrElse(orElse);
+	}
+
+	@Override
+	public <R> R accept(ExprVisitor<R> visitor){
+		return visitor.visit(this);
+	}
+
+	public Expr getTest(){
+		return this.test;
+	}
+
+	private void setTest(Expr test){
+		this.test = Objects.requireNonNull(test);
+	}
+
+	public Expr getBody(){
+		return this.body;
+	}
+
+	private void setBody(Expr body){
+		this.body = Objects.requireNonNull(body);
+	}
+
+	public Expr getOrElse(){
+		return this.orElse;
+	}
+
+	private void setOrElse(Expr orElse){
+		this.orElse = Objects.requireNonNull(orElse);
+	}
+}
\ No newline at end of file
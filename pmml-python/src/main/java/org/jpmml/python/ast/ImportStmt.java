@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * An import statement.
+ * </p>
+ */
+public class ImportStmt extends Stmt {
+
+	private List<Alias> aliases = null;
+
+
+	public ImportStmt(List<Alias> aliases){
+		setAliases(aliases);
+	}
+
+	@Override
+	public <R> R accept(StmtVisitor<R> visitor){
+		return visitor.visit(this);
+	}
+
+	public List<Alias> getAliases(){
+		return this.aliases;
+	}
+
+	private void setAliases(List<Alias> aliases){
+		this.aliases = Collections.unmodifiableList(new ArrayList<>(aliases));
+	}
+
+	/**
+	 * <p>
+	 * An imported module, and its optional alias.
+	 * </p>
+	 */
+	static
+	public class Alias {
+
+		private String dottedName = null;
+
+		private String asName = null;
+
+
+		public Alias(String dottedName, String asName){
+			setDottedName(dottedName);
+			setAsName(asName);
+		}
+
+		public String getDottedName(){
+			return this.dottedName;
+		}
+
+		private void setDottedName(String dottedName){
+			this.dottedName = Objects.requireNonNull(dottedName);
+		}
+
+		public String getAsName(){
+			return this.asName;
+		}
+
+		private void setAsName(String asName){
+			this.asName = asName;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+/**
+ * <p>
+ * A literal value.
+ * </p>
+ *
+ * <p>
+ * The value is a {@link Boolean}, {@link Integer}, {@link Double} or {@link String}. The <code>None</code> literal is represented by a <code>null</code> value.
+ * </p>
+ */
+public class LiteralExpr extends Expr {
+
+	private Object value = null;
+
+
+	public LiteralExpr(Object value){
+		setValue(value);
+	}
+
+	@Override
+	public <R> R accept(ExprVisitor<R> visitor){
+		return visitor.visit(this);
+	}
+
+	public Object getValue(){
+		return this.value;
+	}
+
+	private void setValue(Object value){
+		this.value = value;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A method call on the result of another expression.
+ * </p>
+ */
+public class MethodCallExpr extends Expr {
+
+	private Expr target = null;
+
+	private String name = null;
+
+	private List<Expr> arguments = null;
+
+
+	public MethodCallExpr(Expr target, String name, List<Expr> arguments){
+		setTarget(target);
+		setName(name);
+		setArguments(arguments);
+	}
+
+	@Override
+	public <R> R accept(ExprVisitor<R> visitor){
+		return visitor.visit(this);
+	}
+
+	public Expr getTarget(){
+		return this.target;
+	}
+
+	private void setTarget(Expr target){
+		this.target = Objects.requireNonNull(target);
+	}
+
+	public String getName(){
+		return this.name;
+	}
+
+	private void setName(String name){
+		this.name = Objects.requireNonNull(name);
+	}
+
+	public List<Expr> getArguments(){
+		return this.arguments;
+	}
+
+	private void setArguments(List<Expr> arguments){
+		this.arguments = Collections.unmodifiableList(new ArrayList<>(arguments));
+	}
+}
\ No newline at end of file
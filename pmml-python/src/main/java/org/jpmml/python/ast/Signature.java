@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A function signature.
+ * </p>
+ *
+ * <p>
+ * The return type is optional.
+ * </p>
+ */
+public class Signature extends Node {
+
+	private String name = null;
+
+	private List<String> parameters = null;
+
+	private String returnType = null;
+
+
+	public Signature(String name, List<String> parameters, String returnType){
+		setName(name);
+		setParameters(parameters);
+		setReturnType(returnType);
+	}
+
+	public String getName(){
+		return this.name;
+	}
+
+	private void setName(String name){
+		this.name = Objects.requireNonNull(name);
+	}
+
+	public List<String> getParameters(){
+		return this.parameters;
+	}
+
+	private void setParameters(List<String> parameters){
+		this.parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
+	}
+
+	public String getReturnType(){
+		return this.returnType;
+	}
+
+	private void setReturnType(String returnType){
+		this.returnType = returnType;
+	}
+}
\ No newline at end of file
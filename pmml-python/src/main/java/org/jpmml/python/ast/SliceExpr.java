@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * A slice of the result of another expression.
+ * </p>
+ *
+ * <p>
+ * The start and stop positions are optional.
+ * </p>
+ */
+public class SliceExpr extends Expr {
+
+	private Expr target = null;
+
+	private Integer start = null;
+
+	private Integer stop = null;
+
+
+	public SliceExpr(Expr target, Integer start, Integer stop){
+		setTarget(target);
+		setStart(start);
+		setStop(stop);
+	}
+
+	@Override
+	public <R> R accept(ExprVisitor<R> visitor){
+		return visitor.visit(this);
+	}
+
+	public Expr getTarget(){
+		return this.target;
+	}
+
+	private void setTarget(Expr target){
+		this.target = Objects.requireNonNull(target);
+	}
+
+	public Integer getStart(){
+		return this.start;
+	}
+
+	private void setStart(Integer start){
+		this.start = start;
+	}
+
+	public Integer getStop(){
+		return this.stop;
+	}
+
+	private void setStop(Integer stop){
+		this.stop = stop;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * A column lookup on a named array or data frame.
+ * </p>
+ *
+ * <p>
+ * The column is either a column index (an {@link Integer}) or a column name (a {@link String}).
+ * </p>
+ */
+public class SubscriptExpr extends Expr {
+
+	private String dottedName = null;
+
+	private Object column = null;
+
+
+	public SubscriptExpr(String dottedName, Object column){
+		setDottedName(dottedName);
+		setColumn(column);
+	}
+
+	@Override
+	public <R> R accept(ExprVisitor<R> visitor){
+		return visitor.visit(this);
+	}
+
+	public String getDottedName(){
+		return this.dottedName;
+	}
+
+	private void setDottedName(String dottedName){
+		this.dottedName = Objects.requireNonNull(dottedName);
+	}
+
+	public Object getColumn(){
+		return this.column;
+	}
+
+	private void setColumn(Object column){
+		this.column = Objects.requireNonNull(column);
+	}
+}
\ No newline at end of file
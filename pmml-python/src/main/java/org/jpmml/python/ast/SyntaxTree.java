@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * A parsed Python source string.
+ * </p>
+ *
+ * <p>
+ * A syntax tree can be translated any number of times against different scopes, without parsing the source string again.
+ * The source string serves as the translation cache key, and is reported in translation error messages.
+ * </p>
+ *
+ * @see org.jpmml.python.ExpressionTranslator#parseExpression(String)
+ * @see org.jpmml.python.ExpressionTranslator#parseStatement(String)
+ * @see org.jpmml.python.ExpressionTranslator#parseDef(String)
+ * @see org.jpmml.python.PredicateTranslator#parsePredicate(String)
+ */
+public class SyntaxTree<N extends Node> {
+
+	private String string = null;
+
+	private N root = null;
+
+
+	public SyntaxTree(String string, N root){
+		setString(string);
+		setRoot(root);
+	}
+
+	public String getString(){
+		return this.string;
+	}
+
+	private void setString(String string){
+		this.string = Objects.requireNonNull(string);
+	}
+
+	public N getRoot(){
+		return this.root;
+	}
+
+	private void setRoot(N root){
+		this.root = Objects.requireNonNull(root);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python.ast;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * A unary arithmetic or logical operation.
+ * </p>
+ */
+public class UnaryExpr extends Expr {
+
+	private Operator operator = null;
+
+	private Expr operand = null;
+
+
+	public UnaryExpr(Operator operator, Expr operand){
+		setOperator(operator);
+		setOperand(operand);
+	}
+
+	@Override
+	public <R> R accept(ExprVisitor<R> visitor){
+		return visitor.visit(this);
+	}
+
+	public Operator getOperator(){
+		return this.operator;
+	}
+
+	private void setOperator(Operator operator){
+		this.operator = Objects.requireNonNull(operator);
+	}
+
+	public Expr getOperand(){
+		return this.operand;
+	}
+
+	private void setOperand(Expr operand){
+		this.operand = Objects.requireNonNull(operand);
+	}
+
+	static
+	public enum Operator {
+		PLUS,
+		MINUS,
+		NOT,
+		;
+	}
+}
\ No newline at end of file
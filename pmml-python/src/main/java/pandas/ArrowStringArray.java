@@ -18,6 +18,7 @@
  */
 package pandas;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Objects;
 
@@ -31,12 +32,24 @@ import pyarrow.Types;
 
 public class ArrowStringArray extends PythonObject implements HasArray {
 
+	private List<?> content = null;
+
+
 	public ArrowStringArray(String module, String name){
 		super(module, name);
 	}
 
 	@Override
 	public List<?> getArrayContent(){
+
+		if(this.content == null){
+			this.content = loadArrayContent();
+		}
+
+		return this.content;
+	}
+
+	private List<?> loadArrayContent(){
 		Array paArray = getPAArray();
 
 		List<Buffer> buffers = paArray.getBuffers();
@@ -45,9 +58,9 @@ public class ArrowStringArray extends PythonObject implements HasArray {
 		int nullCount = paArray.getNullCount();
 		Type type = paArray.getType();
 
-		byte[] validityBuffer = getBuffer(buffers.get(0));
-		byte[] offsetsBuffer = getBuffer(buffers.get(1));
-		byte[] dataBuffer = getBuffer(buffers.get(2));
+		ByteBuffer validityBuffer = getBuffer(buffers.get(0));
+		ByteBuffer offsetsBuffer = getBuffer(buffers.get(1));
+		ByteBuffer dataBuffer = getBuffer(buffers.get(2));
 
 		boolean largeStrings = Objects.equals(Types.LARGE_STRING, type.getClassName());
 
@@ -77,10 +90,10 @@ public class ArrowStringArray extends PythonObject implements HasArray {
 	}
 
 	static
-	private byte[] getBuffer(Buffer buffer){
+	private ByteBuffer getBuffer(Buffer buffer){
 
 		if(buffer != null){
-			return buffer.getBuffer();
+			return ByteBuffer.wrap(buffer.getBuffer());
 		}
 
 		return null;
@@ -22,6 +22,7 @@ import java.util.List;
 
 import builtins.Slice;
 import org.jpmml.python.CythonObject;
+import org.jpmml.python.SliceUtil;
 
 public class Block extends CythonObject {
 
@@ -47,6 +48,29 @@ public class Block extends CythonObject {
 		return getObjectArray("values");
 	}
 
+	/**
+	 * Gets the positions of block items on the column axis.
+	 */
+	public List<Integer> getPlacement(){
+		Object placement = getObject("placement");
+
+		if(placement instanceof Slice){
+			Slice slice = (Slice)placement;
+
+			Integer start = slice.getStart();
+			Integer stop = slice.getStop();
+			Integer step = slice.getStep();
+
+			if(stop == null){
+				throw new IllegalArgumentException();
+			}
+
+			return SliceUtil.range((start != null ? start : 0), stop, (step != null ? step : 1));
+		}
+
+		return getIntegerArray("placement");
+	}
+
 	private static final String[] INIT_ATTRIBUTES = {
 		"values",
 		"placement",
@@ -19,15 +19,22 @@
 package pandas.core;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+import numpy.core.NDArray;
 import org.jpmml.python.ClassDictUtil;
 import org.jpmml.python.CythonObject;
 import org.jpmml.python.HasArray;
 
 public class BlockManager extends CythonObject {
 
+	private int[][] columnLocations = null;
+
+
 	public BlockManager(String module, String name){
 		super(module, name);
 	}
@@ -93,6 +100,8 @@ public class BlockManager extends CythonObject {
 	public BlockManager setBlockItems(List<Index> blockItems){
 		setattr("block_items", blockItems);
 
+		this.columnLocations = null;
+
 		return this;
 	}
 
@@ -116,6 +125,121 @@ public class BlockManager extends CythonObject {
 		return this;
 	}
 
+	/**
+	 * <p>
+	 * Gets the values of the specified column.
+	 * </p>
+	 *
+	 * <p>
+	 * One-dimensional blocks (eg. extension arrays) are returned as-is.
+	 * Two-dimensional blocks are sliced, so that only the bytes of the specified column are decoded where possible.
+	 * </p>
+	 *
+	 * @param column The position of the column on the column axis.
+	 *
+	 * @see NDArray#getRowContent(int)
+	 */
+	public List<?> getColumnContent(int column){
+		int[][] columnLocations = getColumnLocations();
+
+		Objects.checkIndex(column, columnLocations.length);
+
+		int[] columnLocation = columnLocations[column];
+		if(columnLocation == null){
+			throw new IllegalArgumentException("Column " + column + " is not placed in any block");
+		}
+
+		int block = columnLocation[0];
+		int item = columnLocation[1];
+
+		List<HasArray> blockValues = getBlockValues();
+
+		HasArray blockValue = blockValues.get(block);
+
+		int[] shape = blockValue.getArrayShape();
+
+		switch(shape.length){
+			case 1:
+				return blockValue.getArrayContent();
+			case 2:
+				{
+					if(blockValue instanceof NDArray){
+						NDArray ndArray = (NDArray)blockValue;
+
+						return ndArray.getRowContent(item);
+					}
+
+					List<?> content = blockValue.getArrayContent();
+
+					return content.subList(item * shape[1], (item + 1) * shape[1]);
+				}
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	/**
+	 * @return A mapping from column positions to (block position, block item position) pairs.
+	 */
+	private int[][] getColumnLocations(){
+
+		if(this.columnLocations == null){
+			this.columnLocations = loadColumnLocations();
+		}
+
+		return this.columnLocations;
+	}
+
+	private int[][] loadColumnLocations(){
+		Index columnAxis = getColumnAxis();
+
+		List<?> columns = columnAxis.getValues();
+
+		int[][] result = new int[columns.size()][];
+
+		if(hasattr("block_items")){
+			List<Index> blockItems = getBlockItems();
+
+			Map<Object, Integer> columnIndices = new HashMap<>();
+
+			for(int i = columns.size() - 1; i > -1; i--){
+				columnIndices.put(columns.get(i), i);
+			}
+
+			for(int i = 0; i < blockItems.size(); i++){
+				Index blockItem = blockItems.get(i);
+
+				List<?> items = blockItem.getValues();
+
+				for(int j = 0; j < items.size(); j++){
+					Integer column = columnIndices.get(items.get(j));
+
+					if(column == null){
+						throw new IllegalArgumentException("Block item " + items.get(j) + " is not defined on the column axis");
+					}
+
+					result[column] = new int[]{i, j};
+				}
+			}
+		} else
+
+		{
+			Object[] blocks = getTuple("blocks");
+
+			for(int i = 0; i < blocks.length; i++){
+				Block block = (Block)blocks[i];
+
+				List<Integer> placement = block.getPlacement();
+
+				for(int j = 0; j < placement.size(); j++){
+					result[placement.get(j)] = new int[]{i, j};
+				}
+			}
+		}
+
+		return result;
+	}
+
 	public List<Index> getIndexList(String name){
 		return getList(name, Index.class);
 	}
@@ -18,14 +18,40 @@
  */
 package pandas.core;
 
+import java.util.List;
+
+import numpy.core.NDArray;
+import org.jpmml.python.CategoricalArray;
 import pandas.NDArrayBacked;
 
-public class Categorical extends NDArrayBacked {
+public class Categorical extends NDArrayBacked implements CategoricalArray {
 
 	public Categorical(String module, String name){
 		super(module, name);
 	}
 
+	@Override
+	public int[] getCategoryCodes(){
+		NDArray content = getContent();
+
+		long[] codes = content.getLongContent();
+
+		int[] result = new int[codes.length];
+
+		for(int i = 0; i < codes.length; i++){
+			result[i] = Math.toIntExact(codes[i]);
+		}
+
+		return result;
+	}
+
+	@Override
+	public List<?> getCategoryValues(){
+		CategoricalDtype dtype = getDType();
+
+		return dtype.getValues();
+	}
+
 	@Override
 	public CategoricalDtype getDType(){
 		return get("_dtype", CategoricalDtype.class);
@@ -18,6 +18,11 @@
  */
 package pandas.core;
 
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jpmml.python.PythonFormatterUtil;
 import org.jpmml.python.PythonObject;
 
 public class DataFrame extends PythonObject {
@@ -34,4 +39,68 @@ public class DataFrame extends PythonObject {
 
 		return get("_mgr", BlockManager.class);
 	}
+
+	public List<?> getColumnNames(){
+		BlockManager data = getData();
+
+		Index columnAxis = data.getColumnAxis();
+
+		return columnAxis.getValues();
+	}
+
+	/**
+	 * <p>
+	 * Gets the specified column as a series.
+	 * Only the values of this column are decoded.
+	 * </p>
+	 *
+	 * @see Index#getLoc(Object)
+	 * @see BlockManager#getColumnContent(int)
+	 */
+	public Series getColumn(Object name){
+		BlockManager data = getData();
+
+		Index columnAxis = data.getColumnAxis();
+
+		int index = columnAxis.getLoc(name);
+		if(index < 0){
+			throw new IllegalArgumentException("Column " + PythonFormatterUtil.formatValue(name) + " is not defined");
+		}
+
+		return getColumnAt(index);
+	}
+
+	/**
+	 * @param index The position of the column on the column axis.
+	 */
+	public Series getColumnAt(int index){
+		BlockManager data = getData();
+
+		Index rowAxis = data.getRowAxis();
+		Index columnAxis = data.getColumnAxis();
+
+		List<?> values = data.getColumnContent(index);
+
+		Series result = SeriesUtil.createSeries(rowAxis, values);
+
+		// The column label may be of any type (eg. an integer or a tuple)
+		Object name = (columnAxis.getValues()).get(index);
+
+		result.setattr("name", name);
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Streams columns in column axis order.
+	 * Columns are decoded one by one, as the stream is consumed.
+	 * </p>
+	 */
+	public Stream<Series> streamColumns(){
+		List<?> columnNames = getColumnNames();
+
+		return IntStream.range(0, columnNames.size())
+			.mapToObj(this::getColumnAt);
+	}
 }
\ No newline at end of file
@@ -18,6 +18,7 @@
  */
 package pandas.core;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -34,6 +35,9 @@ import org.jpmml.python.SliceUtil;
 
 public class Index extends CythonObject implements HasArray {
 
+	private Map<Object, Integer> locations = null;
+
+
 	public Index(String module, String name){
 		super(module, name);
 	}
@@ -55,9 +59,9 @@ public class Index extends CythonObject implements HasArray {
 
 	@Override
 	public int[] getArrayShape(){
-		List<?> values = getArrayContent();
+		Data data = getData();
 
-		return new int[]{values.size()};
+		return data.getShape();
 	}
 
 	@Override
@@ -77,6 +81,74 @@ public class Index extends CythonObject implements HasArray {
 		return data.getValues();
 	}
 
+	/**
+	 * <p>
+	 * Gets the position of the specified label.
+	 * </p>
+	 *
+	 * <p>
+	 * Range indexes are looked up arithmetically.
+	 * Other indexes are looked up using a hash table, which is built on first use.
+	 * Integer labels are matched irrespective of their Java type (eg. <code>Integer</code> vs. <code>Long</code>).
+	 * </p>
+	 *
+	 * @return The position of the first occurrence of the label, or <code>-1</code>.
+	 */
+	public int getLoc(Object key){
+		Data data = getData();
+
+		key = toKey(key);
+
+		if(data instanceof RangeData){
+			RangeData rangeData = (RangeData)data;
+
+			if(!(key instanceof Long)){
+				return -1;
+			}
+
+			Long longKey = (Long)key;
+
+			if(longKey < Integer.MIN_VALUE || longKey > Integer.MAX_VALUE){
+				return -1;
+			}
+
+			List<Integer> values = rangeData.getValues();
+
+			return values.indexOf(longKey.intValue());
+		} // End if
+
+		if(this.locations == null){
+			this.locations = loadLocations(data.getValues());
+		}
+
+		Integer result = this.locations.get(key);
+
+		return (result != null ? result : -1);
+	}
+
+	static
+	private Map<Object, Integer> loadLocations(List<?> values){
+		Map<Object, Integer> result = new HashMap<>(2 * values.size());
+
+		for(int i = 0; i < values.size(); i++){
+			result.putIfAbsent(toKey(values.get(i)), i);
+		}
+
+		return result;
+	}
+
+	static
+	private Object toKey(Object value){
+
+		if((value instanceof Byte) || (value instanceof Short) || (value instanceof Integer)){
+			Number number = (Number)value;
+
+			return number.longValue();
+		}
+
+		return value;
+	}
+
 	public String getCls(){
 		ClassDictConstructor dictConstructor = get("cls", ClassDictConstructor.class);
 
@@ -117,6 +189,9 @@ public class Index extends CythonObject implements HasArray {
 		abstract
 		public Object getDescr();
 
+		abstract
+		public int[] getShape();
+
 		abstract
 		public List<?> getValues();
 	}
@@ -133,12 +208,22 @@ public class Index extends CythonObject implements HasArray {
 		}
 
 		@Override
-		public List<?> getValues(){
+		public int[] getShape(){
+			List<Integer> values = getValues();
+
+			return new int[]{values.size()};
+		}
+
+		/**
+		 * @return A virtual sequence.
+		 */
+		@Override
+		public List<Integer> getValues(){
 			int start = getStart();
 			int stop = getStop();
 			int step = getStep();
 
-			return SliceUtil.indices(start, stop, step);
+			return SliceUtil.range(start, stop, step);
 		}
 
 		public Integer getStart(){
@@ -167,6 +252,13 @@ public class Index extends CythonObject implements HasArray {
 			return data.getArrayType();
 		}
 
+		@Override
+		public int[] getShape(){
+			HasArray data = getData();
+
+			return data.getArrayShape();
+		}
+
 		@Override
 		public List<?> getValues(){
 			HasArray data = getData();
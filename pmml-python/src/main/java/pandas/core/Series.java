@@ -86,6 +86,20 @@ public class Series extends PythonObject implements HasArray {
 		return getOptionalString("name");
 	}
 
+	/**
+	 * @return The name, which may be of any hashable type (eg. a string, an integer or a tuple).
+	 *
+	 * @see #getName()
+	 */
+	public Object getLabel(){
+
+		if(hasattr("_name")){
+			return get("_name", Object.class);
+		}
+
+		return getOptional("name", Object.class);
+	}
+
 	public String getTyp(){
 		return getString("_typ");
 	}
@@ -26,6 +26,7 @@ import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 import org.jpmml.python.ClassDictUtil;
 import org.jpmml.python.HasArray;
+import org.jpmml.python.PythonFormatterUtil;
 
 public class SeriesUtil {
 
@@ -62,6 +63,52 @@ public class SeriesUtil {
 		return result;
 	}
 
+	/**
+	 * <p>
+	 * Checks if the specified label is defined.
+	 * </p>
+	 *
+	 * @see Index#getLoc(Object)
+	 */
+	static
+	public boolean containsKey(Series series, Object key){
+		SingleBlockManager blockManager = series.getBlockManager();
+
+		Index blockItem = blockManager.getOnlyBlockItem();
+
+		return blockItem.getLoc(key) > -1;
+	}
+
+	/**
+	 * <p>
+	 * Gets the value for the specified label, without building a map of the whole series.
+	 * </p>
+	 *
+	 * @return The value, which may be <code>null</code> (ie. a missing value).
+	 *
+	 * @throws IllegalArgumentException If the label is not defined.
+	 *
+	 * @see #containsKey(Series, Object)
+	 * @see Index#getLoc(Object)
+	 */
+	static
+	public Object getValue(Series series, Object key){
+		SingleBlockManager blockManager = series.getBlockManager();
+
+		Index blockItem = blockManager.getOnlyBlockItem();
+
+		int index = blockItem.getLoc(key);
+		if(index < 0){
+			throw new IllegalArgumentException("Label " + PythonFormatterUtil.formatValue(key) + " is not defined");
+		}
+
+		HasArray blockValue = blockManager.getOnlyBlockValue();
+
+		List<?> values = blockValue.getArrayContent();
+
+		return values.get(index);
+	}
+
 	static
 	public <InK, OutK, InV, OutV> Map<OutK, OutV> toMap(Series series, Function<InK, OutK> keyFunction, Function<InV, OutV> valueFunction){
 		SingleBlockManager blockManager = series.getBlockManager();
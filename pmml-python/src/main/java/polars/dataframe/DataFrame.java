@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package polars.dataframe;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+import org.jpmml.python.PythonObject;
+import polars.series.Series;
+import pyarrow.IPCUtil;
+
+public class DataFrame extends PythonObject {
+
+	public DataFrame(){
+		this("polars.dataframe.frame", "DataFrame");
+	}
+
+	public DataFrame(String module, String name){
+		super(module, name);
+	}
+
+	public void __setstate__(byte[] state){
+		HashMap<String, Object> dict = new HashMap<>();
+		dict.put("columns", IPCUtil.parseDataFrame(state));
+
+		super.__setstate__(dict);
+	}
+
+	/**
+	 * <p>
+	 * Gets columns.
+	 * Column content is decoded on demand.
+	 * </p>
+	 */
+	public List<Series> getColumns(){
+		return getList("columns", Series.class);
+	}
+
+	public List<String> getColumnNames(){
+		List<Series> columns = getColumns();
+
+		List<String> result = new ArrayList<>(columns.size());
+
+		for(Series column : columns){
+			result.add(column.getName());
+		}
+
+		return result;
+	}
+
+	public Series getColumn(String name){
+		List<Series> columns = getColumns();
+
+		for(Series column : columns){
+
+			if(Objects.equals(name, column.getName())){
+				return column;
+			}
+		}
+
+		throw new IllegalArgumentException("Column " + name + " is not defined");
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package polars.datatypes;
+
+public class Duration extends DataType {
+
+	public Duration(java.lang.String module, java.lang.String name){
+		super(module, name);
+	}
+
+	@Override
+	public org.dmg.pmml.DataType getDataType(){
+		throw new UnsupportedOperationException();
+	}
+
+	public java.lang.String getTimeUnit(){
+		return getString("time_unit");
+	}
+}
\ No newline at end of file
@@ -18,10 +18,15 @@
  */
 package polars.series;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.arrow.flatbuf.Precision;
+import org.apache.arrow.flatbuf.TimeUnit;
 import org.apache.arrow.flatbuf.Type;
+import org.jpmml.python.CategoricalArray;
+import org.jpmml.python.CategoricalArrayUtil;
 import org.jpmml.python.HasArray;
 import org.jpmml.python.PythonObject;
 import polars.datatypes.DataType;
@@ -30,6 +35,9 @@ import pyarrow.IPCUtil;
 
 public class Series extends PythonObject implements HasArray {
 
+	private List<?> content = null;
+
+
 	public Series(){
 		this("polars.series.series", "Series");
 	}
@@ -40,7 +48,28 @@ public class Series extends PythonObject implements HasArray {
 
 	@Override
 	public List<?> getArrayContent(){
-		List<byte[]> buffers = getBuffers();
+
+		if(this.content == null){
+			this.content = loadArrayContent();
+		}
+
+		return this.content;
+	}
+
+	private List<?> loadArrayContent(){
+		List<Series> chunks = getChunks();
+
+		if(chunks != null){
+			List<List<?>> chunkValues = new ArrayList<>(chunks.size());
+
+			for(Series chunk : chunks){
+				chunkValues.add(chunk.getArrayContent());
+			}
+
+			return ArrayUtil.concatenate(chunkValues);
+		}
+
+		List<ByteBuffer> buffers = getBuffers();
 		Series categories = getCategories();
 		int length = getLength();
 		List<long[]> nodes = getNodes();
@@ -49,10 +78,12 @@ public class Series extends PythonObject implements HasArray {
 		int nullCount = (int)(nodes.get(0))[1];
 
 		if(categories != null){
-			List<?> categoryValues = categories.getArrayContent();
-			List<Number> indices = ArrayUtil.decodeInts(buffers.get(0), nullCount, buffers.get(1), 0, length, getBitWidth(), isSigned());
+			CategoricalArray categoricalArray = getCategoricalArray();
+
+			// Decode dictionary values only once
+			List<?> categoryValues = new ArrayList<>(categoricalArray.getCategoryValues());
 
-			return ArrayUtil.decodeDictionary(categoryValues, indices);
+			return CategoricalArrayUtil.decode(categoricalArray.getCategoryCodes(), categoryValues);
 		}
 
 		switch(typeType){
@@ -62,13 +93,219 @@ public class Series extends PythonObject implements HasArray {
 				return ArrayUtil.decodeInts(buffers.get(0), nullCount, buffers.get(1), 0, length, getBitWidth(), isSigned());
 			case Type.FloatingPoint:
 				return ArrayUtil.decodeFloatingPoints(buffers.get(0), nullCount, buffers.get(1), 0, length, getPrecision());
+			case Type.Decimal:
+				return ArrayUtil.decodeDecimals(buffers.get(0), nullCount, buffers.get(1), 0, length, getBitWidth(), getScale());
+			case Type.Date:
+				return ArrayUtil.decodeDates(buffers.get(0), nullCount, buffers.get(1), 0, length, getUnit());
+			case Type.Time:
+				return ArrayUtil.decodeTimes(buffers.get(0), nullCount, buffers.get(1), 0, length, getUnit(), getBitWidth());
+			case Type.Timestamp:
+				return ArrayUtil.decodeTimestamps(buffers.get(0), nullCount, buffers.get(1), 0, length, getUnit(), getTimeZone());
+			case Type.Duration:
+				return ArrayUtil.decodeDurations(buffers.get(0), nullCount, buffers.get(1), 0, length, getUnit());
+			case Type.FixedSizeBinary:
+				return ArrayUtil.decodeFixedSizeBinaries(buffers.get(0), nullCount, buffers.get(1), 0, length, getByteWidth());
+			case Type.Binary:
+			case Type.LargeBinary:
+				return ArrayUtil.decodeBinaries(buffers.get(0), nullCount, buffers.get(1), buffers.get(2), 0, length, (typeType == Type.LargeBinary));
+			case Type.Utf8:
+			case Type.LargeUtf8:
+				return ArrayUtil.decodeStrings(buffers.get(0), nullCount, buffers.get(1), buffers.get(2), 0, length, (typeType == Type.LargeUtf8));
+			case Type.BinaryView:
+				return ArrayUtil.decodeBinaryViews(buffers.get(0), nullCount, buffers.get(1), buffers.subList(2, buffers.size()), 0, length);
 			case Type.Utf8View:
-				return ArrayUtil.decodeStringViews(buffers.get(0), nullCount, buffers.get(1), 0, length);
+				return ArrayUtil.decodeStringViews(buffers.get(0), nullCount, buffers.get(1), buffers.subList(2, buffers.size()), 0, length);
+			case Type.FixedSizeList:
+				{
+					Series values = getValues();
+
+					return ArrayUtil.decodeFixedSizeLists(buffers.get(0), nullCount, values.getArrayContent(), 0, length, getListSize());
+				}
 			default:
 				throw new IllegalArgumentException();
 		}
 	}
 
+	/**
+	 * <p>
+	 * Gets a dictionary-encoded series as a categorical array.
+	 * The category codes are the dictionary indices, and the category values are the dictionary values.
+	 * </p>
+	 *
+	 * @return A categorical array, or <code>null</code> if the series is not dictionary-encoded.
+	 */
+	public CategoricalArray getCategoricalArray(){
+		Series categories = getCategories();
+
+		if(categories == null){
+			return null;
+		}
+
+		CategoricalArray categoricalArray = new CategoricalArray(){
+
+			@Override
+			public int[] getCategoryCodes(){
+				int[] result = new int[getLength()];
+
+				copyCategoryCodes(result, 0);
+
+				return result;
+			}
+
+			@Override
+			public List<?> getCategoryValues(){
+				return categories.getArrayContent();
+			}
+		};
+
+		return categoricalArray;
+	}
+
+	private void copyCategoryCodes(int[] codes, int position){
+		List<Series> chunks = getChunks();
+
+		if(chunks != null){
+			int chunkPosition = position;
+
+			for(Series chunk : chunks){
+				chunk.copyCategoryCodes(codes, chunkPosition);
+
+				chunkPosition += chunk.getLength();
+			}
+
+			return;
+		}
+
+		List<ByteBuffer> buffers = getBuffers();
+		Series categories = getCategories();
+		int length = getLength();
+		List<long[]> nodes = getNodes();
+
+		int nullCount = (int)(nodes.get(0))[1];
+
+		if(categories == null){
+			throw new IllegalArgumentException("Series is not dictionary-encoded");
+		}
+
+		long[] indices = new long[length];
+		boolean[] nullMask = new boolean[length];
+
+		ArrayUtil.copyInts(buffers.get(0), nullCount, buffers.get(1), 0, length, getBitWidth(), isSigned(), indices, nullMask, 0);
+
+		for(int i = 0; i < length; i++){
+			codes[position + i] = (nullMask[i] ? -1 : Math.toIntExact(indices[i]));
+		}
+	}
+
+	/**
+	 * <p>
+	 * Gets the content of a numeric series as a primitive array.
+	 * Missing values are returned as {@link Double#NaN}.
+	 * </p>
+	 *
+	 * @param nullMask An array for flagging missing values, or <code>null</code>.
+	 */
+	public double[] toDoubleArray(boolean[] nullMask){
+		double[] result = new double[getLength()];
+
+		copyValues(result, nullMask, 0);
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Gets the content of an integer series as a primitive array.
+	 * Missing values are returned as <code>0</code>.
+	 * </p>
+	 *
+	 * @param nullMask An array for flagging missing values, or <code>null</code>.
+	 */
+	public long[] toLongArray(boolean[] nullMask){
+		long[] result = new long[getLength()];
+
+		copyValues(result, nullMask, 0);
+
+		return result;
+	}
+
+	private void copyValues(Object values, boolean[] nullMask, int position){
+		List<Series> chunks = getChunks();
+
+		if(chunks != null){
+			int chunkPosition = position;
+
+			for(Series chunk : chunks){
+				chunk.copyValues(values, nullMask, chunkPosition);
+
+				chunkPosition += chunk.getLength();
+			}
+
+			return;
+		}
+
+		List<ByteBuffer> buffers = getBuffers();
+		Series categories = getCategories();
+		int length = getLength();
+		List<long[]> nodes = getNodes();
+		int typeType = getTypeType();
+
+		int nullCount = (int)(nodes.get(0))[1];
+
+		if(categories != null){
+			throw new IllegalArgumentException();
+		} // End if
+
+		if(values instanceof double[]){
+			double[] doubleValues = (double[])values;
+
+			switch(typeType){
+				case Type.Int:
+					{
+						long[] longValues = new long[length];
+
+						ArrayUtil.copyInts(buffers.get(0), nullCount, buffers.get(1), 0, length, getBitWidth(), isSigned(), longValues, null, 0);
+
+						for(int i = 0; i < length; i++){
+							doubleValues[position + i] = longValues[i];
+						}
+
+						if(nullCount > 0){
+							ArrayUtil.forEachNull(buffers.get(0), 0, length, (index) -> {
+								doubleValues[position + index] = Double.NaN;
+
+								if(nullMask != null){
+									nullMask[position + index] = true;
+								}
+							});
+						}
+					}
+					break;
+				case Type.FloatingPoint:
+					ArrayUtil.copyFloatingPoints(buffers.get(0), nullCount, buffers.get(1), 0, length, getPrecision(), doubleValues, nullMask, position);
+					break;
+				default:
+					throw new IllegalArgumentException();
+			}
+		} else
+
+		if(values instanceof long[]){
+			long[] longValues = (long[])values;
+
+			switch(typeType){
+				case Type.Int:
+					ArrayUtil.copyInts(buffers.get(0), nullCount, buffers.get(1), 0, length, getBitWidth(), isSigned(), longValues, nullMask, position);
+					break;
+				default:
+					throw new IllegalArgumentException();
+			}
+		} else
+
+		{
+			throw new IllegalArgumentException();
+		}
+	}
+
 	@Override
 	public int[] getArrayShape(){
 		return new int[]{getLength()};
@@ -95,9 +332,55 @@ public class Series extends PythonObject implements HasArray {
 			case Type.FloatingPoint:
 				name = "Float" + toBitWidth(getPrecision());
 				break;
+			case Type.Decimal:
+				{
+					DataType decimal = DataType.forName("Decimal");
+					decimal.setattr("precision", getPrecision());
+					decimal.setattr("scale", getScale());
+
+					return decimal;
+				}
+			case Type.Date:
+				name = "Date";
+				break;
+			case Type.Time:
+				name = "Time";
+				break;
+			case Type.Timestamp:
+				{
+					DataType datetime = DataType.forName("Datetime");
+					datetime.setattr("time_zone", getTimeZone());
+
+					return datetime;
+				}
+			case Type.Duration:
+				{
+					DataType duration = DataType.forName("Duration");
+					duration.setattr("time_unit", toTimeUnit(getUnit()));
+
+					return duration;
+				}
+			case Type.FixedSizeBinary:
+			case Type.Binary:
+			case Type.LargeBinary:
+			case Type.BinaryView:
+				name = "Binary";
+				break;
+			case Type.Utf8:
+			case Type.LargeUtf8:
 			case Type.Utf8View:
 				name = "String";
 				break;
+			case Type.FixedSizeList:
+				{
+					Series values = getValues();
+
+					DataType array = DataType.forName("Array");
+					array.setattr("inner", values.getArrayType());
+					array.setattr("size", getListSize());
+
+					return array;
+				}
 			default:
 				throw new IllegalArgumentException();
 		}
@@ -109,7 +392,10 @@ public class Series extends PythonObject implements HasArray {
 		super.__setstate__(IPCUtil.parseSeries(state));
 	}
 
-	public List<byte[]> getBuffers(){
+	/**
+	 * Gets Arrow buffers, as little-endian slices of the pickled state.
+	 */
+	public List<ByteBuffer> getBuffers(){
 		return (List)getList("buffers");
 	}
 
@@ -117,6 +403,24 @@ public class Series extends PythonObject implements HasArray {
 		return getOptionalInteger("bitWidth");
 	}
 
+	public Integer getByteWidth(){
+		return getOptionalInteger("byteWidth");
+	}
+
+	/**
+	 * Gets the chunks of a series that was split between multiple Arrow record batches.
+	 *
+	 * @return A list of chunks, or <code>null</code>.
+	 */
+	public List<Series> getChunks(){
+
+		if(!hasattr("chunks")){
+			return null;
+		}
+
+		return getList("chunks", Series.class);
+	}
+
 	public Series getCategories(){
 		return getOptional("categories", Series.class);
 	}
@@ -129,6 +433,10 @@ public class Series extends PythonObject implements HasArray {
 		return getInteger("length");
 	}
 
+	public Integer getListSize(){
+		return getOptionalInteger("listSize");
+	}
+
 	public String getName(){
 		return getString("name");
 	}
@@ -137,14 +445,27 @@ public class Series extends PythonObject implements HasArray {
 		return (List)getList("nodes");
 	}
 
+	/**
+	 * Gets the precision (FloatingPoint and Decimal types).
+	 * For the former, this is a {@link Precision} constant.
+	 * For the latter, this is the maximum number of decimal digits.
+	 */
 	public Integer getPrecision(){
 		return getOptionalInteger("precision");
 	}
 
+	public Integer getScale(){
+		return getOptionalInteger("scale");
+	}
+
 	public Boolean isSigned(){
 		return getOptionalBoolean("signed");
 	}
 
+	public String getTimeZone(){
+		return getOptionalString("timezone");
+	}
+
 	public Integer getTypeType(){
 		return getInteger("typeType");
 	}
@@ -155,6 +476,38 @@ public class Series extends PythonObject implements HasArray {
 		return this;
 	}
 
+	/**
+	 * Gets the time unit (Date, Time, Timestamp and Duration types).
+	 *
+	 * @see org.apache.arrow.flatbuf.DateUnit
+	 * @see org.apache.arrow.flatbuf.TimeUnit
+	 */
+	public Integer getUnit(){
+		return getOptionalInteger("unit");
+	}
+
+	/**
+	 * Gets the child series of a fixed-size list series.
+	 */
+	public Series getValues(){
+		return getOptional("values", Series.class);
+	}
+
+	static
+	private String toTimeUnit(int unit){
+
+		switch(unit){
+			case TimeUnit.MILLISECOND:
+				return "ms";
+			case TimeUnit.MICROSECOND:
+				return "us";
+			case TimeUnit.NANOSECOND:
+				return "ns";
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
 	static
 	private int toBitWidth(int precision){
 
@@ -18,242 +18,945 @@
  */
 package pyarrow;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.BitSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
 
+import org.apache.arrow.flatbuf.DateUnit;
 import org.apache.arrow.flatbuf.Precision;
+import org.apache.arrow.flatbuf.TimeUnit;
 
 public class ArrayUtil {
 
 	private ArrayUtil(){
 	}
 
+	/**
+	 * @return A random-access view.
+	 */
 	static
 	public <E> List<E> decodeDictionary(List<E> values, List<Number> indices){
-		List<E> result = new ArrayList<>(indices.size());
+		List<E> result = new AbstractList<E>(){
 
-		for(int i = 0; i < indices.size(); i++){
-			Number index = indices.get(i);
+			@Override
+			public E get(int index){
+				Number valueIndex = indices.get(index);
 
-			result.add(index != null ? values.get(index.intValue()) : null);
-		}
+				return (valueIndex != null ? values.get(valueIndex.intValue()) : null);
+			}
+
+			@Override
+			public int size(){
+				return indices.size();
+			}
+		};
 
 		return result;
 	}
 
+	/**
+	 * @return A random-access view.
+	 */
 	static
-	public List<Boolean> decodeBooleans(byte[] validityBuffer, int nullCount, byte[] dataBuffer, int offset, int length){
-		List<Boolean> result = new ArrayList<>(length);
+	public <E> List<E> concatenate(List<? extends List<? extends E>> chunks){
+		int[] chunkOffsets = new int[chunks.size() + 1];
+
+		for(int i = 0; i < chunks.size(); i++){
+			List<? extends E> chunk = chunks.get(i);
+
+			chunkOffsets[i + 1] = Math.addExact(chunkOffsets[i], chunk.size());
+		}
 
-		BitSet validityMask = toValidityMask(validityBuffer, nullCount);
+		List<E> result = new AbstractList<E>(){
 
-		BitSet data = BitSet.valueOf(dataBuffer);
+			@Override
+			public E get(int index){
+				Objects.checkIndex(index, size());
 
-		for(int i = 0; i < length; i++){
-			int index = offset + i;
+				int chunkIndex = Arrays.binarySearch(chunkOffsets, index);
+				if(chunkIndex < 0){
+					chunkIndex = -(chunkIndex + 1) - 1;
+				} else
 
-			if(!ArrayUtil.isValid(validityMask, index)){
-				result.add(null);
+				{
+					// Skip empty chunks
+					while(chunkOffsets[chunkIndex + 1] == index){
+						chunkIndex++;
+					}
+				}
+
+				List<? extends E> chunk = chunks.get(chunkIndex);
 
-				continue;
+				return chunk.get(index - chunkOffsets[chunkIndex]);
 			}
 
-			result.add(data.get(index));
-		}
+			@Override
+			public int size(){
+				return chunkOffsets[chunkOffsets.length - 1];
+			}
+		};
 
 		return result;
 	}
 
+	/**
+	 * @return A random-access view.
+	 */
 	static
-	public List<Number> decodeInts(byte[] validityBuffer, int nullCount, byte[] dataBuffer, int offset, int length, int bitWidth, boolean signed){
-		List<Number> result = new ArrayList<>(length);
+	public List<Boolean> decodeBooleans(ByteBuffer validityBuffer, int nullCount, ByteBuffer dataBuffer, int offset, int length){
+		ByteBuffer data = dataBuffer.duplicate();
 
-		BitSet validityMask = toValidityMask(validityBuffer, nullCount);
+		List<Boolean> result = new ArrowList<Boolean>(validityBuffer, nullCount, offset, length){
 
-		ByteBuffer data = ByteBuffer.wrap(dataBuffer)
-			.order(ByteOrder.LITTLE_ENDIAN);
+			@Override
+			public Boolean getValue(int index){
+				return isSet(data, index);
+			}
+		};
+
+		return result;
+	}
 
-		for(int i = 0; i < length; i++){
-			int index = offset + i;
+	/**
+	 * @return A random-access view.
+	 */
+	static
+	public List<Number> decodeInts(ByteBuffer validityBuffer, int nullCount, ByteBuffer dataBuffer, int offset, int length, int bitWidth, boolean signed){
+		ByteBuffer data = toLittleEndian(dataBuffer);
 
-			if(!ArrayUtil.isValid(validityMask, index)){
-				result.add(null);
+		List<Number> result;
 
-				continue;
-			}
+		switch(bitWidth){
+			case 8:
+				result = new ArrowList<Number>(validityBuffer, nullCount, offset, length){
 
-			switch(bitWidth){
-				case 8:
-					{
+					@Override
+					public Number getValue(int index){
 						byte value = data.get(index);
 
-						result.add(signed ? value : (short)Byte.toUnsignedInt(value));
+						return (signed ? value : (short)Byte.toUnsignedInt(value));
 					}
-					break;
-				case 16:
-					{
-						short value = data.getShort(index * 2);
+				};
+				break;
+			case 16:
+				ShortBuffer shorts = data.asShortBuffer();
 
-						result.add(signed ? value : Short.toUnsignedInt(value));
+				result = new ArrowList<Number>(validityBuffer, nullCount, offset, length){
+
+					@Override
+					public Number getValue(int index){
+						short value = shorts.get(index);
+
+						return (signed ? value : Short.toUnsignedInt(value));
 					}
-					break;
-				case 32:
-					{
-						int value = data.getInt(index * 4);
+				};
+				break;
+			case 32:
+				IntBuffer ints = data.asIntBuffer();
+
+				result = new ArrowList<Number>(validityBuffer, nullCount, offset, length){
 
-						result.add(signed ? value : Integer.toUnsignedLong(value));
+					@Override
+					public Number getValue(int index){
+						int value = ints.get(index);
+
+						return (signed ? value : Integer.toUnsignedLong(value));
 					}
-					break;
-				case 64:
-					{
-						long value = data.getLong(index * 8);
+				};
+				break;
+			case 64:
+				LongBuffer longs = data.asLongBuffer();
+
+				result = new ArrowList<Number>(validityBuffer, nullCount, offset, length){
 
-						result.add(signed ? value : new BigInteger(Long.toUnsignedString(value)));
+					@Override
+					public Number getValue(int index){
+						long value = longs.get(index);
+
+						return (signed ? value : new BigInteger(Long.toUnsignedString(value)));
 					}
-					break;
-				default:
-					throw new IllegalArgumentException();
-			}
+				};
+				break;
+			default:
+				throw new IllegalArgumentException();
 		}
 
 		return result;
 	}
 
+	/**
+	 * @return A random-access view.
+	 */
 	static
-	public List<Number> decodeFloatingPoints(byte[] validityBuffer, int nullCount, byte[] dataBuffer, int offset, int length, int precision){
-		List<Number> result = new ArrayList<>(length);
+	public List<Number> decodeFloatingPoints(ByteBuffer validityBuffer, int nullCount, ByteBuffer dataBuffer, int offset, int length, int precision){
+		ByteBuffer data = toLittleEndian(dataBuffer);
 
-		BitSet validityMask = toValidityMask(validityBuffer, nullCount);
+		List<Number> result;
 
-		ByteBuffer data = ByteBuffer.wrap(dataBuffer)
-			.order(ByteOrder.LITTLE_ENDIAN);
+		switch(precision){
+			case Precision.SINGLE:
+				FloatBuffer floats = data.asFloatBuffer();
+
+				result = new ArrowList<Number>(validityBuffer, nullCount, offset, length){
 
-		for(int i = 0; i < length; i++){
-			int index = offset + i;
+					@Override
+					public Number getValue(int index){
+						return floats.get(index);
+					}
+				};
+				break;
+			case Precision.DOUBLE:
+				DoubleBuffer doubles = data.asDoubleBuffer();
+
+				result = new ArrowList<Number>(validityBuffer, nullCount, offset, length){
+
+					@Override
+					public Number getValue(int index){
+						return doubles.get(index);
+					}
+				};
+				break;
+			default:
+				throw new IllegalArgumentException();
+		}
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Copies floating point values into a primitive array.
+	 * Missing values are copied as {@link Double#NaN}.
+	 * </p>
+	 *
+	 * @param values The destination array.
+	 * @param nullMask The destination null mask, or <code>null</code>. Only missing value positions are written to.
+	 * @param position The destination position.
+	 *
+	 * @return The number of missing values.
+	 */
+	static
+	public int copyFloatingPoints(ByteBuffer validityBuffer, int nullCount, ByteBuffer dataBuffer, int offset, int length, int precision, double[] values, boolean[] nullMask, int position){
+		ByteBuffer data = toLittleEndian(dataBuffer);
+
+		Objects.checkFromIndexSize(position, length, values.length);
+
+		switch(precision){
+			case Precision.SINGLE:
+				{
+					FloatBuffer floats = data.asFloatBuffer();
+
+					for(int i = 0; i < length; i++){
+						values[position + i] = floats.get(offset + i);
+					}
+				}
+				break;
+			case Precision.DOUBLE:
+				{
+					DoubleBuffer doubles = data.asDoubleBuffer();
+
+					doubles.position(offset);
+					doubles.get(values, position, length);
+				}
+				break;
+			default:
+				throw new IllegalArgumentException();
+		}
 
-			if(!ArrayUtil.isValid(validityMask, index)){
-				result.add(null);
+		if(validityBuffer == null || nullCount == 0){
+			return 0;
+		}
 
-				continue;
+		return forEachNull(validityBuffer, offset, length, (index) -> {
+			values[position + index] = Double.NaN;
+
+			if(nullMask != null){
+				nullMask[position + index] = true;
 			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Copies integer values into a primitive array.
+	 * Missing values are copied as <code>0</code>.
+	 * </p>
+	 *
+	 * @param values The destination array.
+	 * @param nullMask The destination null mask, or <code>null</code>. Only missing value positions are written to.
+	 * @param position The destination position.
+	 *
+	 * @return The number of missing values.
+	 *
+	 * @throws IllegalArgumentException If the integer type is unsigned 64-bit integer, whose values do not fit into <code>long</code>.
+	 */
+	static
+	public int copyInts(ByteBuffer validityBuffer, int nullCount, ByteBuffer dataBuffer, int offset, int length, int bitWidth, boolean signed, long[] values, boolean[] nullMask, int position){
+		ByteBuffer data = toLittleEndian(dataBuffer);
+
+		Objects.checkFromIndexSize(position, length, values.length);
+
+		switch(bitWidth){
+			case 8:
+				for(int i = 0; i < length; i++){
+					byte value = data.get(offset + i);
+
+					values[position + i] = (signed ? value : Byte.toUnsignedLong(value));
+				}
+				break;
+			case 16:
+				{
+					ShortBuffer shorts = data.asShortBuffer();
 
-			switch(precision){
-				case Precision.SINGLE:
-					{
-						float value = data.getFloat(index * 4);
+					for(int i = 0; i < length; i++){
+						short value = shorts.get(offset + i);
 
-						result.add(value);
+						values[position + i] = (signed ? value : Short.toUnsignedLong(value));
 					}
-					break;
-				case Precision.DOUBLE:
-					{
-						double value = data.getDouble(index * 8);
+				}
+				break;
+			case 32:
+				{
+					IntBuffer ints = data.asIntBuffer();
 
-						result.add(value);
+					for(int i = 0; i < length; i++){
+						int value = ints.get(offset + i);
+
+						values[position + i] = (signed ? value : Integer.toUnsignedLong(value));
+					}
+				}
+				break;
+			case 64:
+				{
+					if(!signed){
+						throw new IllegalArgumentException("Unsigned 64-bit integers cannot be copied into a long array");
 					}
-					break;
-				default:
-					throw new IllegalArgumentException();
+
+					LongBuffer longs = data.asLongBuffer();
+
+					longs.position(offset);
+					longs.get(values, position, length);
+				}
+				break;
+			default:
+				throw new IllegalArgumentException();
+		}
+
+		if(validityBuffer == null || nullCount == 0){
+			return 0;
+		}
+
+		return forEachNull(validityBuffer, offset, length, (index) -> {
+			values[position + index] = 0L;
+
+			if(nullMask != null){
+				nullMask[position + index] = true;
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Visits the positions of unset bits in a validity bitmap.
+	 * </p>
+	 *
+	 * <p>
+	 * The bitmap is scanned 64 bits at a time, so the cost is proportional to the number of words plus the number of missing values,
+	 * rather than to the number of elements.
+	 * </p>
+	 *
+	 * @param consumer A consumer of positions, relative to <code>offset</code>.
+	 *
+	 * @return The number of missing values.
+	 */
+	static
+	public int forEachNull(ByteBuffer validityBuffer, int offset, int length, IntConsumer consumer){
+		ByteBuffer bitmap = toLittleEndian(validityBuffer);
+
+		int end = Math.addExact(offset, length);
+
+		int count = 0;
+
+		for(int wordStart = (offset & ~63); wordStart < end; wordStart += 64){
+			long nulls = ~readWord(bitmap, wordStart >>> 3);
+
+			if(wordStart < offset){
+				nulls &= (-1L << (offset - wordStart));
+			} // End if
+
+			if(end - wordStart < 64){
+				nulls &= ~(-1L << (end - wordStart));
+			}
+
+			while(nulls != 0L){
+				int bit = Long.numberOfTrailingZeros(nulls);
+
+				consumer.accept(wordStart + bit - offset);
+
+				count++;
+
+				nulls &= (nulls - 1L);
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * @return A random-access view.
+	 */
+	static
+	public List<BigDecimal> decodeDecimals(ByteBuffer validityBuffer, int nullCount, ByteBuffer dataBuffer, int offset, int length, int bitWidth, int scale){
+		ByteBuffer data = dataBuffer.duplicate();
+
+		int byteWidth;
+
+		switch(bitWidth){
+			case 32:
+			case 64:
+			case 128:
+			case 256:
+				byteWidth = bitWidth / 8;
+				break;
+			default:
+				throw new IllegalArgumentException();
+		}
+
+		List<BigDecimal> result = new ArrowList<BigDecimal>(validityBuffer, nullCount, offset, length){
+
+			@Override
+			public BigDecimal getValue(int index){
+				byte[] bytes = new byte[byteWidth];
+
+				// Little-endian two's complement to big-endian two's complement
+				for(int i = 0, position = index * byteWidth; i < byteWidth; i++){
+					bytes[byteWidth - 1 - i] = data.get(position + i);
+				}
+
+				return new BigDecimal(new BigInteger(bytes), scale);
 			}
+		};
+
+		return result;
+	}
+
+	/**
+	 * @param unit The date unit.
+	 *
+	 * @return A random-access view.
+	 *
+	 * @see DateUnit
+	 */
+	static
+	public List<LocalDate> decodeDates(ByteBuffer validityBuffer, int nullCount, ByteBuffer dataBuffer, int offset, int length, int unit){
+		List<LocalDate> result;
+
+		switch(unit){
+			case DateUnit.DAY:
+				{
+					IntToLongFunction values = toLongFunction(dataBuffer, 32);
+
+					result = new ArrowList<LocalDate>(validityBuffer, nullCount, offset, length){
+
+						@Override
+						public LocalDate getValue(int index){
+							return LocalDate.ofEpochDay(values.applyAsLong(index));
+						}
+					};
+				}
+				break;
+			case DateUnit.MILLISECOND:
+				{
+					IntToLongFunction values = toLongFunction(dataBuffer, 64);
+
+					result = new ArrowList<LocalDate>(validityBuffer, nullCount, offset, length){
+
+						@Override
+						public LocalDate getValue(int index){
+							return LocalDate.ofEpochDay(Math.floorDiv(values.applyAsLong(index), ArrayUtil.MILLIS_PER_DAY));
+						}
+					};
+				}
+				break;
+			default:
+				throw new IllegalArgumentException();
 		}
 
 		return result;
 	}
 
+	/**
+	 * @param unit The time unit.
+	 * @param bitWidth The bit width. <code>32</code> for second and millisecond units, <code>64</code> for microsecond and nanosecond units.
+	 *
+	 * @return A random-access view.
+	 *
+	 * @see TimeUnit
+	 */
 	static
-	public List<String> decodeStrings(byte[] validityBuffer, int nullCount, byte[] offsetsBuffer, byte[] dataBuffer, int offset, int length, boolean largeStrings){
-		List<String> result = new ArrayList<>(length);
+	public List<LocalTime> decodeTimes(ByteBuffer validityBuffer, int nullCount, ByteBuffer dataBuffer, int offset, int length, int unit, int bitWidth){
+		IntToLongFunction values = toLongFunction(dataBuffer, bitWidth);
+		ChronoUnit chronoUnit = toChronoUnit(unit);
 
-		BitSet validityMask = toValidityMask(validityBuffer, nullCount);
+		List<LocalTime> result = new ArrowList<LocalTime>(validityBuffer, nullCount, offset, length){
 
-		ByteBuffer offsets = ByteBuffer.wrap(offsetsBuffer)
-			.order(ByteOrder.LITTLE_ENDIAN);
+			@Override
+			public LocalTime getValue(int index){
+				return LocalTime.MIDNIGHT.plus(values.applyAsLong(index), chronoUnit);
+			}
+		};
+
+		return result;
+	}
+
+	/**
+	 * @param unit The time unit.
+	 * @param timeZone The time zone, or <code>null</code>.
+	 *
+	 * @return A random-access view.
+	 * If the time zone is not set, then elements are {@link LocalDateTime} wall clock times.
+	 * Otherwise, elements are {@link java.time.ZonedDateTime} instants in the specified time zone.
+	 *
+	 * @see TimeUnit
+	 */
+	static
+	public List<Temporal> decodeTimestamps(ByteBuffer validityBuffer, int nullCount, ByteBuffer dataBuffer, int offset, int length, int unit, String timeZone){
+		IntToLongFunction values = toLongFunction(dataBuffer, 64);
+		ChronoUnit chronoUnit = toChronoUnit(unit);
+
+		List<Temporal> result;
+
+		if(timeZone != null){
+			ZoneId zoneId = ZoneId.of(timeZone);
+
+			result = new ArrowList<Temporal>(validityBuffer, nullCount, offset, length){
 
-		for(int i = 0; i < length; i++){
-			int index = offset + i;
+				@Override
+				public Temporal getValue(int index){
+					Instant instant = Instant.EPOCH.plus(values.applyAsLong(index), chronoUnit);
 
-			if(!ArrayUtil.isValid(validityMask, index)){
-				result.add(null);
+					return instant.atZone(zoneId);
+				}
+			};
+		} else
+
+		{
+			result = new ArrowList<Temporal>(validityBuffer, nullCount, offset, length){
+
+				@Override
+				public Temporal getValue(int index){
+					Instant instant = Instant.EPOCH.plus(values.applyAsLong(index), chronoUnit);
+
+					return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+				}
+			};
+		}
+
+		return result;
+	}
 
-				continue;
+	/**
+	 * @param unit The time unit.
+	 *
+	 * @return A random-access view.
+	 *
+	 * @see TimeUnit
+	 */
+	static
+	public List<Duration> decodeDurations(ByteBuffer validityBuffer, int nullCount, ByteBuffer dataBuffer, int offset, int length, int unit){
+		IntToLongFunction values = toLongFunction(dataBuffer, 64);
+		ChronoUnit chronoUnit = toChronoUnit(unit);
+
+		List<Duration> result = new ArrowList<Duration>(validityBuffer, nullCount, offset, length){
+
+			@Override
+			public Duration getValue(int index){
+				return Duration.of(values.applyAsLong(index), chronoUnit);
 			}
+		};
+
+		return result;
+	}
+
+	/**
+	 * @return A random-access view.
+	 */
+	static
+	public List<String> decodeStrings(ByteBuffer validityBuffer, int nullCount, ByteBuffer offsetsBuffer, ByteBuffer dataBuffer, int offset, int length, boolean largeStrings){
+		IntUnaryOperator offsets = toOffsetFunction(offsetsBuffer, largeStrings);
+		ByteBuffer data = dataBuffer.duplicate();
 
-			int start;
-			int end;
+		List<String> result = new ArrowList<String>(validityBuffer, nullCount, offset, length){
 
-			if(largeStrings){
-				start = (int)offsets.getLong(index * 8);
-				end = (int)offsets.getLong((index + 1) * 8);
-			} else
+			@Override
+			public String getValue(int index){
+				int start = offsets.applyAsInt(index);
+				int end = offsets.applyAsInt(index + 1);
 
-			{
-				start = offsets.getInt(index * 4);
-				end = offsets.getInt((index + 1) * 4);
+				return decodeString(data, start, (end - start));
 			}
+		};
 
-			String string = new String(dataBuffer, start, (end - start), StandardCharsets.UTF_8);
+		return result;
+	}
 
-			result.add(string);
-		}
+	/**
+	 * @return A random-access view.
+	 */
+	static
+	public List<byte[]> decodeBinaries(ByteBuffer validityBuffer, int nullCount, ByteBuffer offsetsBuffer, ByteBuffer dataBuffer, int offset, int length, boolean largeBinaries){
+		IntUnaryOperator offsets = toOffsetFunction(offsetsBuffer, largeBinaries);
+		ByteBuffer data = dataBuffer.duplicate();
+
+		List<byte[]> result = new ArrowList<byte[]>(validityBuffer, nullCount, offset, length){
+
+			@Override
+			public byte[] getValue(int index){
+				int start = offsets.applyAsInt(index);
+				int end = offsets.applyAsInt(index + 1);
+
+				return decodeBytes(data, start, (end - start));
+			}
+		};
 
 		return result;
 	}
 
+	/**
+	 * @return A random-access view.
+	 */
 	static
-	public List<String> decodeStringViews(byte[] validityBuffer, int nullCount, byte[] dataBuffer, int offset, int length){
-		List<String> result = new ArrayList<>(length);
+	public List<byte[]> decodeFixedSizeBinaries(ByteBuffer validityBuffer, int nullCount, ByteBuffer dataBuffer, int offset, int length, int byteWidth){
+		ByteBuffer data = dataBuffer.duplicate();
 
-		BitSet validityMask = toValidityMask(validityBuffer, nullCount);
+		List<byte[]> result = new ArrowList<byte[]>(validityBuffer, nullCount, offset, length){
 
-		ByteBuffer data = ByteBuffer.wrap(dataBuffer)
-			.order(ByteOrder.LITTLE_ENDIAN);
+			@Override
+			public byte[] getValue(int index){
+				return decodeBytes(data, index * byteWidth, byteWidth);
+			}
+		};
+
+		return result;
+	}
 
-		for(int i = 0; i < length; i++){
-			int index = offset + i;
+	/**
+	 * @param values The values of the child array.
+	 *
+	 * @return A random-access view.
+	 */
+	static
+	public <E> List<List<E>> decodeFixedSizeLists(ByteBuffer validityBuffer, int nullCount, List<E> values, int offset, int length, int listSize){
+		List<List<E>> result = new ArrowList<List<E>>(validityBuffer, nullCount, offset, length){
 
-			if(!ArrayUtil.isValid(validityMask, index)){
-				result.add(null);
+			@Override
+			public List<E> getValue(int index){
+				int start = index * listSize;
 
-				continue;
+				return Collections.unmodifiableList(values.subList(start, start + listSize));
 			}
+		};
 
-			int viewOffset = index * 16;
+		return result;
+	}
 
-			int stringLength = data.getInt(viewOffset);
-			if(stringLength > 12){
-				throw new IllegalArgumentException();
+	/**
+	 * @return A random-access view.
+	 *
+	 * @see #decodeStringViews(ByteBuffer, int, ByteBuffer, List, int, int)
+	 */
+	static
+	public List<String> decodeStringViews(ByteBuffer validityBuffer, int nullCount, ByteBuffer dataBuffer, int offset, int length){
+		return decodeStringViews(validityBuffer, nullCount, dataBuffer, Collections.emptyList(), offset, length);
+	}
+
+	/**
+	 * @param viewsBuffer The views buffer.
+	 * @param dataBuffers The variadic data buffers, which hold strings that are too long to be inlined into the views buffer.
+	 *
+	 * @return A random-access view.
+	 */
+	static
+	public List<String> decodeStringViews(ByteBuffer validityBuffer, int nullCount, ByteBuffer viewsBuffer, List<ByteBuffer> dataBuffers, int offset, int length){
+		List<String> result = new ViewList<String>(validityBuffer, nullCount, viewsBuffer, dataBuffers, offset, length){
+
+			@Override
+			public String getValue(ByteBuffer buffer, int position, int length){
+				return decodeString(buffer, position, length);
+			}
+		};
+
+		return result;
+	}
+
+	/**
+	 * @return A random-access view.
+	 *
+	 * @see #decodeStringViews(ByteBuffer, int, ByteBuffer, List, int, int)
+	 */
+	static
+	public List<byte[]> decodeBinaryViews(ByteBuffer validityBuffer, int nullCount, ByteBuffer viewsBuffer, List<ByteBuffer> dataBuffers, int offset, int length){
+		List<byte[]> result = new ViewList<byte[]>(validityBuffer, nullCount, viewsBuffer, dataBuffers, offset, length){
+
+			@Override
+			public byte[] getValue(ByteBuffer buffer, int position, int length){
+				return decodeBytes(buffer, position, length);
 			}
+		};
 
-			String string = new String(dataBuffer, viewOffset + 4, stringLength, StandardCharsets.UTF_8);
+		return result;
+	}
+
+	/**
+	 * Decodes a UTF-8 string at the specified absolute position.
+	 * Heap buffers are decoded in place, other buffers are decoded from a copy of the string bytes.
+	 */
+	static
+	private String decodeString(ByteBuffer buffer, int position, int length){
 
-			result.add(string);
+		if(buffer.hasArray()){
+			return new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
 		}
 
+		byte[] bytes = new byte[length];
+
+		ByteBuffer slice = buffer.duplicate();
+		slice.position(position);
+		slice.get(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	static
+	private byte[] decodeBytes(ByteBuffer buffer, int position, int length){
+		byte[] result = new byte[length];
+
+		ByteBuffer slice = buffer.duplicate();
+		slice.position(position);
+		slice.get(result);
+
 		return result;
 	}
 
+	/**
+	 * Selects the reader of offset values outside of the element loop.
+	 */
 	static
-	private boolean isValid(BitSet validityMask, int index){
+	private IntUnaryOperator toOffsetFunction(ByteBuffer offsetsBuffer, boolean largeOffsets){
+		ByteBuffer offsets = toLittleEndian(offsetsBuffer);
 
-		if(validityMask == null){
-			return true;
+		if(largeOffsets){
+			LongBuffer longs = offsets.asLongBuffer();
+
+			return (index) -> Math.toIntExact(longs.get(index));
+		} else
+
+		{
+			IntBuffer ints = offsets.asIntBuffer();
+
+			return ints::get;
 		}
+	}
 
-		return validityMask.get(index);
+	/**
+	 * Selects the reader of integer values outside of the element loop.
+	 */
+	static
+	private IntToLongFunction toLongFunction(ByteBuffer dataBuffer, int bitWidth){
+		ByteBuffer data = toLittleEndian(dataBuffer);
+
+		switch(bitWidth){
+			case 32:
+				{
+					IntBuffer ints = data.asIntBuffer();
+
+					return ints::get;
+				}
+			case 64:
+				{
+					LongBuffer longs = data.asLongBuffer();
+
+					return longs::get;
+				}
+			default:
+				throw new IllegalArgumentException();
+		}
 	}
 
 	static
-	private BitSet toValidityMask(byte[] buffer, int nullCount){
+	private ChronoUnit toChronoUnit(int unit){
+
+		switch(unit){
+			case TimeUnit.SECOND:
+				return ChronoUnit.SECONDS;
+			case TimeUnit.MILLISECOND:
+				return ChronoUnit.MILLIS;
+			case TimeUnit.MICROSECOND:
+				return ChronoUnit.MICROS;
+			case TimeUnit.NANOSECOND:
+				return ChronoUnit.NANOS;
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	/**
+	 * Typed views such as {@link ByteBuffer#asIntBuffer()} start at the current position,
+	 * so the duplicate is rewound in order to stay aligned with absolute positions.
+	 */
+	static
+	private ByteBuffer toLittleEndian(ByteBuffer buffer){
+		return buffer.duplicate()
+			.rewind()
+			.order(ByteOrder.LITTLE_ENDIAN);
+	}
 
-		if(buffer != null && nullCount > 0){
-			return BitSet.valueOf(buffer);
+	/**
+	 * Reads a 64-bit word of a bitmap.
+	 * Missing bytes past the end of the bitmap are treated as set bits.
+	 */
+	static
+	private long readWord(ByteBuffer bitmap, int byteIndex){
+		int limit = bitmap.limit();
+
+		if(byteIndex + 8 <= limit){
+			return bitmap.getLong(byteIndex);
 		}
 
-		return null;
+		long result = -1L;
+
+		for(int i = 0; byteIndex + i < limit; i++){
+			result &= ~(0xFFL << (i * 8));
+			result |= ((bitmap.get(byteIndex + i) & 0xFFL) << (i * 8));
+		}
+
+		return result;
+	}
+
+	static
+	private boolean isSet(ByteBuffer bitmap, int index){
+		return ((bitmap.get(index >>> 3) >>> (index & 7)) & 1) != 0;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * <p>
+	 * A random-access view of an Arrow array, which decodes elements on demand.
+	 * </p>
+	 */
+	abstract
+	static
+	private class ArrowList<E> extends AbstractList<E> implements RandomAccess {
+
+		private ByteBuffer validityBuffer = null;
+
+		private int offset = 0;
+
+		private int length = 0;
+
+
+		private ArrowList(ByteBuffer validityBuffer, int nullCount, int offset, int length){
+			this.validityBuffer = (validityBuffer != null && nullCount > 0) ? validityBuffer.duplicate() : null;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		/**
+		 * @param index The index of a non-missing element, relative to the start of Arrow buffers.
+		 */
+		abstract
+		public E getValue(int index);
+
+		@Override
+		public E get(int index){
+			Objects.checkIndex(index, this.length);
+
+			int bufferIndex = this.offset + index;
+
+			if(this.validityBuffer != null && !isSet(this.validityBuffer, bufferIndex)){
+				return null;
+			}
+
+			return getValue(bufferIndex);
+		}
+
+		@Override
+		public int size(){
+			return this.length;
+		}
+	}
+
+	/**
+	 * <p>
+	 * A random-access view of an Arrow view-layout array.
+	 * Values of up to 12 bytes are inlined into the views buffer, longer values are stored in variadic data buffers.
+	 * </p>
+	 */
+	abstract
+	static
+	private class ViewList<E> extends ArrowList<E> {
+
+		private ByteBuffer views = null;
+
+		private List<ByteBuffer> dataBuffers = null;
+
+
+		private ViewList(ByteBuffer validityBuffer, int nullCount, ByteBuffer viewsBuffer, List<ByteBuffer> dataBuffers, int offset, int length){
+			super(validityBuffer, nullCount, offset, length);
+
+			this.views = toLittleEndian(viewsBuffer);
+			this.dataBuffers = dataBuffers;
+		}
+
+		abstract
+		public E getValue(ByteBuffer buffer, int position, int length);
+
+		@Override
+		public E getValue(int index){
+			ByteBuffer views = this.views;
+			List<ByteBuffer> dataBuffers = this.dataBuffers;
+
+			int viewOffset = index * 16;
+
+			int length = views.getInt(viewOffset);
+			if(length <= 12){
+				return getValue(views, viewOffset + 4, length);
+			}
+
+			int bufferIndex = views.getInt(viewOffset + 8);
+			int position = views.getInt(viewOffset + 12);
+
+			if(bufferIndex < 0 || bufferIndex >= dataBuffers.size()){
+				throw new IllegalArgumentException("Variadic data buffer " + bufferIndex + " is not defined");
+			}
+
+			return getValue(dataBuffers.get(bufferIndex), position, length);
+		}
+	}
+
+	private static final long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
+}
@@ -18,19 +18,33 @@
  */
 package pyarrow;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.apache.arrow.flatbuf.BodyCompression;
+import org.apache.arrow.flatbuf.BodyCompressionMethod;
+import org.apache.arrow.flatbuf.CompressionType;
+import org.apache.arrow.flatbuf.Date;
+import org.apache.arrow.flatbuf.Decimal;
 import org.apache.arrow.flatbuf.DictionaryBatch;
 import org.apache.arrow.flatbuf.DictionaryEncoding;
+import org.apache.arrow.flatbuf.Duration;
 import org.apache.arrow.flatbuf.Field;
 import org.apache.arrow.flatbuf.FieldNode;
+import org.apache.arrow.flatbuf.FixedSizeBinary;
+import org.apache.arrow.flatbuf.FixedSizeList;
 import org.apache.arrow.flatbuf.FloatingPoint;
 import org.apache.arrow.flatbuf.Int;
 import org.apache.arrow.flatbuf.KeyValue;
@@ -38,7 +52,12 @@ import org.apache.arrow.flatbuf.Message;
 import org.apache.arrow.flatbuf.MessageHeader;
 import org.apache.arrow.flatbuf.RecordBatch;
 import org.apache.arrow.flatbuf.Schema;
+import org.apache.arrow.flatbuf.Time;
+import org.apache.arrow.flatbuf.Timestamp;
 import org.apache.arrow.flatbuf.Type;
+import org.jpmml.python.CompressorUtil;
+import org.jpmml.python.Lz4FrameInputStream;
+import org.jpmml.python.MappedInputStream;
 
 public class IPCUtil {
 
@@ -47,94 +66,573 @@ public class IPCUtil {
 
 	static
 	public HashMap<String, Object> parseSeries(byte[] state){
-		HashMap<String, Object> result = new HashMap<>();
+		return parseSeries(ByteBuffer.wrap(state));
+	}
+
+	static
+	public HashMap<String, Object> parseSeries(ByteBuffer state){
+		return parseSeries(state, null);
+	}
+
+	/**
+	 * <p>
+	 * Parses a single-column Arrow IPC stream.
+	 * </p>
+	 *
+	 * @see #parseColumns(ByteBuffer, Executor)
+	 */
+	static
+	public HashMap<String, Object> parseSeries(ByteBuffer state, Executor executor){
+		List<HashMap<String, Object>> columns = parseColumns(state, executor);
+
+		if(columns.size() != 1){
+			throw new IllegalArgumentException();
+		}
+
+		return columns.get(0);
+	}
+
+	static
+	public List<polars.series.Series> parseDataFrame(byte[] state){
+		return parseDataFrame(ByteBuffer.wrap(state));
+	}
+
+	static
+	public List<polars.series.Series> parseDataFrame(ByteBuffer state){
+		return parseDataFrame(state, null);
+	}
+
+	/**
+	 * @see #parseColumns(ByteBuffer, Executor)
+	 */
+	static
+	public List<polars.series.Series> parseDataFrame(ByteBuffer state, Executor executor){
+		List<HashMap<String, Object>> columns = parseColumns(state, executor);
+
+		List<polars.series.Series> result = new ArrayList<>(columns.size());
+
+		for(HashMap<String, Object> column : columns){
+			polars.series.Series series = new polars.series.Series();
+
+			series.putAll(column);
+
+			result.add(series);
+		}
+
+		return result;
+	}
+
+	static
+	public List<HashMap<String, Object>> parseColumns(ByteBuffer state){
+		return parseColumns(state, null);
+	}
 
-		ByteBuffer buffer = ByteBuffer.wrap(state)
+	/**
+	 * <p>
+	 * Parses an Arrow IPC stream into columns.
+	 * </p>
+	 *
+	 * <p>
+	 * The stream may contain any number of record batches, and any number of (delta-)dictionary batches.
+	 * A dictionary may be replaced (ie. by a non-delta dictionary batch) only before the first record batch.
+	 * A column that is contained in a single record batch is returned as-is.
+	 * A column that is split between multiple record batches is returned as a list of chunks.
+	 * </p>
+	 *
+	 * <p>
+	 * Arrow buffers are returned as little-endian slices of the stream buffer (ie. no bytes are copied),
+	 * and are decoded only when the column content is requested.
+	 * </p>
+	 *
+	 * @param executor The executor for decompressing compressed record batches in parallel, or <code>null</code>.
+	 * If <code>null</code>, then compressed buffers are decompressed sequentially in the calling thread.
+	 */
+	static
+	public List<HashMap<String, Object>> parseColumns(ByteBuffer state, Executor executor){
+		ByteBuffer buffer = state.slice()
 			.order(ByteOrder.LITTLE_ENDIAN);
 
 		MessageInfo schemaInfo = readMessage(MessageHeader.Schema, buffer, 0);
 		Schema schema = (Schema)(schemaInfo.getMessage()).header(new Schema());
 
-		if(schema.fieldsLength() != 1){
-			throw new IllegalArgumentException();
-		}
+		List<ColumnInfo> columnInfos = new ArrayList<>();
 
-		Field field = schema.fields(0);
+		Map<Long, ColumnInfo> dictionaryInfos = new LinkedHashMap<>();
 
-		DictionaryEncoding dictionaryEncoding = field.dictionary();
-		String name = field.name();
-		int typeType = (int)field.typeType();
+		for(int i = 0; i < schema.fieldsLength(); i++){
+			Field field = schema.fields(i);
+
+			if(field.childrenLength() > 0 && !isFixedSizeList(field)){
+				throw new IllegalArgumentException("Nested field " + field.name() + " is not supported");
+			}
 
-		result.put("name", name);
-		result.put("typeType", typeType);
+			DictionaryEncoding dictionaryEncoding = field.dictionary();
+			int typeType = (int)field.typeType();
 
-		if(dictionaryEncoding != null){
-			Int indexType = dictionaryEncoding.indexType();
+			HashMap<String, Object> attributes = new HashMap<>();
+			attributes.put("name", field.name());
+			attributes.put("typeType", typeType);
 
-			result.put("bitWidth", indexType.bitWidth());
-			result.put("signed", indexType.isSigned());
+			if(dictionaryEncoding != null){
+				Int indexType = dictionaryEncoding.indexType();
 
-			MessageInfo dictionaryBatchInfo = readMessage(MessageHeader.DictionaryBatch, buffer, schemaInfo.getNextOffset());
-			DictionaryBatch dictionaryBatch = (DictionaryBatch)(dictionaryBatchInfo.getMessage()).header(new DictionaryBatch());
+				attributes.put("bitWidth", indexType.bitWidth());
+				attributes.put("signed", indexType.isSigned());
 
-			polars.series.Series categories = new polars.series.Series()
-				.setTypeType(typeType);
+				HashMap<String, Object> categoryAttributes = new HashMap<>();
+				categoryAttributes.put("typeType", typeType);
 
-			categories.putAll(parseRecordBatch(state, dictionaryBatch.data(), dictionaryBatchInfo.getNextOffset()));
+				parseType(field, categoryAttributes);
 
-			result.put("categories", categories);
+				ColumnInfo dictionaryInfo = new ColumnInfo(typeType, categoryAttributes, new polars.series.Series());
 
-			Object dtype;
+				dictionaryInfos.put(dictionaryEncoding.id(), dictionaryInfo);
 
-			if(isEnum(field)){
-				dtype = new polars.datatypes.Enum()
-					.setCategories(categories);
+				polars.series.Series categories = dictionaryInfo.getSeries();
+
+				attributes.put("categories", categories);
+
+				Object dtype;
+
+				if(isEnum(field)){
+					dtype = new polars.datatypes.Enum()
+						.setCategories(categories);
+				} else
+
+				{
+					dtype = new polars.datatypes.Categorical();
+				}
+
+				attributes.put("dtype", dtype);
+
+				// Dictionary indices
+				columnInfos.add(new ColumnInfo(Type.Int, attributes, null));
 			} else
 
 			{
-				dtype = new polars.datatypes.Categorical();
+				parseType(field, attributes);
+
+				columnInfos.add(new ColumnInfo(typeType, attributes, null));
 			}
+		}
+
+		int offset = schemaInfo.getNextOffset() + Math.toIntExact((schemaInfo.getMessage()).bodyLength());
 
-			result.put("dtype", dtype);
+		boolean recordBatchRead = false;
 
-			int recordBatchOffset = dictionaryBatchInfo.getNextOffset() + Math.toIntExact((dictionaryBatchInfo.getMessage()).bodyLength());
+		while(offset + 8 <= buffer.limit()){
 
-			MessageInfo recordBatchInfo = readMessage(MessageHeader.RecordBatch, buffer, recordBatchOffset);
-			RecordBatch recordBatch = (RecordBatch)(recordBatchInfo.getMessage()).header(new RecordBatch());
+			// End-of-stream marker
+			if(buffer.getInt(offset) == 0xFFFFFFFF && buffer.getInt(offset + 4) == 0){
+				break;
+			}
 
-			result.putAll(parseRecordBatch(state, recordBatch, recordBatchInfo.getNextOffset()));
-		} else
+			MessageInfo messageInfo = readMessage(buffer, offset);
 
-		{
-			switch(typeType){
-				case Type.Int:
+			Message message = messageInfo.getMessage();
+
+			switch(message.headerType()){
+				case MessageHeader.DictionaryBatch:
 					{
-						Int intType = (Int)field.type(new Int());
+						DictionaryBatch dictionaryBatch = (DictionaryBatch)message.header(new DictionaryBatch());
+
+						ColumnInfo dictionaryInfo = dictionaryInfos.get(dictionaryBatch.id());
+						if(dictionaryInfo == null){
+							throw new IllegalArgumentException("Dictionary " + dictionaryBatch.id() + " is not defined");
+						} // End if
+
+						if(!dictionaryBatch.isDelta()){
 
-						result.put("bitWidth", intType.bitWidth());
-						result.put("signed", intType.isSigned());
+							// Record batches are decoded lazily, against the final state of the dictionary
+							if(recordBatchRead){
+								throw new IllegalArgumentException("Dictionary " + dictionaryBatch.id() + " is replaced after record batches");
+							}
+
+							dictionaryInfo.clearChunks();
+						}
+
+						parseRecordBatch(buffer, dictionaryBatch.data(), messageInfo.getNextOffset(), Collections.singletonList(dictionaryInfo), executor);
 					}
 					break;
-				case Type.FloatingPoint:
+				case MessageHeader.RecordBatch:
 					{
-						FloatingPoint fpType = (FloatingPoint)field.type(new FloatingPoint());
+						RecordBatch recordBatch = (RecordBatch)message.header(new RecordBatch());
+
+						parseRecordBatch(buffer, recordBatch, messageInfo.getNextOffset(), columnInfos, executor);
+
+						recordBatchRead = true;
+					}
+					break;
+				default:
+					throw new IllegalArgumentException();
+			}
+
+			offset = messageInfo.getNextOffset() + Math.toIntExact(message.bodyLength());
+		}
+
+		for(ColumnInfo dictionaryInfo : dictionaryInfos.values()){
+			polars.series.Series categories = dictionaryInfo.getSeries();
+
+			categories.putAll(dictionaryInfo.toState());
+		}
+
+		List<HashMap<String, Object>> result = new ArrayList<>(columnInfos.size());
+
+		for(ColumnInfo columnInfo : columnInfos){
+			result.add(columnInfo.toState());
+		}
+
+		return result;
+	}
+
+	static
+	private void parseType(Field field, Map<String, Object> attributes){
+		int typeType = (int)field.typeType();
 
-						result.put("precision", (int)fpType.precision());
+		switch(typeType){
+			case Type.Int:
+				{
+					Int intType = (Int)field.type(new Int());
+
+					attributes.put("bitWidth", intType.bitWidth());
+					attributes.put("signed", intType.isSigned());
+				}
+				break;
+			case Type.FloatingPoint:
+				{
+					FloatingPoint fpType = (FloatingPoint)field.type(new FloatingPoint());
+
+					attributes.put("precision", (int)fpType.precision());
+				}
+				break;
+			case Type.Decimal:
+				{
+					Decimal decimalType = (Decimal)field.type(new Decimal());
+
+					attributes.put("bitWidth", decimalType.bitWidth());
+					attributes.put("precision", decimalType.precision());
+					attributes.put("scale", decimalType.scale());
+				}
+				break;
+			case Type.Date:
+				{
+					Date dateType = (Date)field.type(new Date());
+
+					attributes.put("unit", (int)dateType.unit());
+				}
+				break;
+			case Type.Time:
+				{
+					Time timeType = (Time)field.type(new Time());
+
+					attributes.put("unit", (int)timeType.unit());
+					attributes.put("bitWidth", timeType.bitWidth());
+				}
+				break;
+			case Type.Timestamp:
+				{
+					Timestamp timestampType = (Timestamp)field.type(new Timestamp());
+
+					attributes.put("unit", (int)timestampType.unit());
+					attributes.put("timezone", timestampType.timezone());
+				}
+				break;
+			case Type.Duration:
+				{
+					Duration durationType = (Duration)field.type(new Duration());
+
+					attributes.put("unit", (int)durationType.unit());
+				}
+				break;
+			case Type.FixedSizeBinary:
+				{
+					FixedSizeBinary fixedSizeBinaryType = (FixedSizeBinary)field.type(new FixedSizeBinary());
+
+					attributes.put("byteWidth", fixedSizeBinaryType.byteWidth());
+				}
+				break;
+			case Type.FixedSizeList:
+				{
+					if(!isFixedSizeList(field)){
+						throw new IllegalArgumentException("Fixed-size list field " + field.name() + " is not supported");
 					}
+
+					FixedSizeList fixedSizeListType = (FixedSizeList)field.type(new FixedSizeList());
+
+					attributes.put("listSize", fixedSizeListType.listSize());
+
+					Field valueField = field.children(0);
+
+					HashMap<String, Object> valueAttributes = new HashMap<>();
+					valueAttributes.put("name", valueField.name());
+					valueAttributes.put("typeType", (int)valueField.typeType());
+
+					parseType(valueField, valueAttributes);
+
+					attributes.put("valueAttributes", valueAttributes);
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	static
+	private void parseRecordBatch(ByteBuffer buffer, RecordBatch recordBatch, int bodyStart, List<ColumnInfo> columnInfos, Executor executor){
+
+		int nodeCount = 0;
+
+		for(ColumnInfo columnInfo : columnInfos){
+			nodeCount += (columnInfo.getTypeType() == Type.FixedSizeList ? 2 : 1);
+		}
+
+		if(recordBatch.nodesLength() != nodeCount){
+			throw new IllegalArgumentException();
+		}
+
+		List<ByteBuffer> buffers = new ArrayList<>(recordBatch.buffersLength());
+
+		for(int i = 0; i < recordBatch.buffersLength(); i++){
+			org.apache.arrow.flatbuf.Buffer arrowBuffer = recordBatch.buffers(i);
+
+			int offset = Math.toIntExact(arrowBuffer.offset());
+			int length = Math.toIntExact(arrowBuffer.length());
+
+			buffers.add(slice(buffer, bodyStart + offset, length));
+		}
+
+		BodyCompression compression = recordBatch.compression();
+		if(compression != null){
+			buffers = decompressBuffers(buffers, compression, executor);
+		}
+
+		int nodeIndex = 0;
+		int bufferIndex = 0;
+		int variadicBufferIndex = 0;
+
+		for(ColumnInfo columnInfo : columnInfos){
+			int typeType = columnInfo.getTypeType();
+
+			FieldNode node = recordBatch.nodes(nodeIndex);
+
+			nodeIndex++;
+
+			int bufferCount = getBufferCount(typeType);
+
+			switch(typeType){
+				case Type.BinaryView:
+				case Type.Utf8View:
+					bufferCount += Math.toIntExact(recordBatch.variadicBufferCounts(variadicBufferIndex));
+
+					variadicBufferIndex++;
 					break;
 				default:
 					break;
 			}
 
-			MessageInfo recordBatchInfo = readMessage(MessageHeader.RecordBatch, buffer, schemaInfo.getNextOffset());
-			RecordBatch recordBatch = (RecordBatch)(recordBatchInfo.getMessage()).header(new RecordBatch());
+			Map<String, Object> chunk = new HashMap<>();
+			chunk.put("length", Math.toIntExact(node.length()));
+			chunk.put("nodes", Collections.singletonList(new long[]{node.length(), node.nullCount()}));
+			chunk.put("buffers", new ArrayList<>(buffers.subList(bufferIndex, bufferIndex + bufferCount)));
+
+			bufferIndex += bufferCount;
 
-			result.putAll(parseRecordBatch(state, recordBatch, recordBatchInfo.getNextOffset()));
+			if(typeType == Type.FixedSizeList){
+				Map<String, Object> valueAttributes = columnInfo.getValueAttributes();
+
+				FieldNode valueNode = recordBatch.nodes(nodeIndex);
+
+				nodeIndex++;
+
+				int valueBufferCount = getBufferCount((Integer)valueAttributes.get("typeType"));
+
+				polars.series.Series values = new polars.series.Series();
+				values.putAll(valueAttributes);
+				values.put("length", Math.toIntExact(valueNode.length()));
+				values.put("nodes", Collections.singletonList(new long[]{valueNode.length(), valueNode.nullCount()}));
+				values.put("buffers", new ArrayList<>(buffers.subList(bufferIndex, bufferIndex + valueBufferCount)));
+
+				chunk.put("values", values);
+
+				bufferIndex += valueBufferCount;
+			}
+
+			columnInfo.addChunk(chunk);
+		}
+	}
+
+	/**
+	 * @return The number of buffers, excluding variadic buffers.
+	 */
+	static
+	private int getBufferCount(int typeType){
+
+		switch(typeType){
+			case Type.Null:
+				return 0;
+			case Type.FixedSizeList:
+				return 1;
+			case Type.Bool:
+			case Type.Int:
+			case Type.FloatingPoint:
+			case Type.Decimal:
+			case Type.Date:
+			case Type.Time:
+			case Type.Timestamp:
+			case Type.Interval:
+			case Type.Duration:
+			case Type.FixedSizeBinary:
+			case Type.BinaryView:
+			case Type.Utf8View:
+				return 2;
+			case Type.Binary:
+			case Type.Utf8:
+			case Type.LargeBinary:
+			case Type.LargeUtf8:
+				return 3;
+			default:
+				throw new IllegalArgumentException("Arrow type " + Type.name(typeType) + " is not supported");
+		}
+	}
+
+	/**
+	 * <p>
+	 * Decompresses buffers.
+	 * If an executor is given, and the total size of buffers is large enough, then they are decompressed in parallel.
+	 * </p>
+	 */
+	static
+	private List<ByteBuffer> decompressBuffers(List<ByteBuffer> buffers, BodyCompression compression, Executor executor){
+		byte codec = compression.codec();
+
+		if(compression.method() != BodyCompressionMethod.BUFFER){
+			throw new IllegalArgumentException("Arrow body compression method " + BodyCompressionMethod.name(compression.method()) + " is not supported");
+		}
+
+		long size = 0;
+
+		for(ByteBuffer buffer : buffers){
+			size += buffer.remaining();
+		}
+
+		if(executor == null || buffers.size() < 2 || size < IPCUtil.PARALLEL_DECOMPRESSION_THRESHOLD){
+			List<ByteBuffer> result = new ArrayList<>(buffers.size());
+
+			for(ByteBuffer buffer : buffers){
+				result.add(decompressBuffer(buffer, codec));
+			}
+
+			return result;
+		}
+
+		List<CompletableFuture<ByteBuffer>> futures = new ArrayList<>(buffers.size());
+
+		for(ByteBuffer buffer : buffers){
+			futures.add(CompletableFuture.supplyAsync(() -> decompressBuffer(buffer, codec), executor));
+		}
+
+		List<ByteBuffer> result = new ArrayList<>(buffers.size());
+
+		try {
+			for(CompletableFuture<ByteBuffer> future : futures){
+				result.add(future.join());
+			}
+		} catch(CompletionException ce){
+			Throwable cause = ce.getCause();
+
+			if(cause instanceof RuntimeException){
+				throw (RuntimeException)cause;
+			}
+
+			throw ce;
 		}
 
 		return result;
 	}
 
+	/**
+	 * <p>
+	 * Decompresses a buffer.
+	 * A compressed buffer is prefixed with its uncompressed length (a 64-bit little-endian integer),
+	 * where the value <code>-1</code> indicates that the remainder of the buffer is not compressed.
+	 * </p>
+	 */
+	static
+	private ByteBuffer decompressBuffer(ByteBuffer buffer, byte codec){
+
+		if(buffer.remaining() == 0){
+			return buffer;
+		}
+
+		long uncompressedLength = buffer.getLong(0);
+
+		ByteBuffer body = slice(buffer, 8, buffer.remaining() - 8);
+
+		if(uncompressedLength == -1L){
+			return body;
+		}
+
+		int length = Math.toIntExact(uncompressedLength);
+
+		byte[] bytes;
+
+		try(InputStream is = createInputStream(codec, new MappedInputStream(body))){
+			bytes = is.readNBytes(length);
+		} catch(IOException ioe){
+			throw new IllegalArgumentException("Failed to decompress Arrow buffer", ioe);
+		}
+
+		if(bytes.length != length){
+			throw new IllegalArgumentException("Expected " + length + " byte(s) of uncompressed data, got " + bytes.length);
+		}
+
+		return ByteBuffer.wrap(bytes)
+			.order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	static
+	private InputStream createInputStream(byte codec, InputStream is) throws IOException {
+
+		switch(codec){
+			case CompressionType.LZ4_FRAME:
+				return new Lz4FrameInputStream(is);
+			case CompressionType.ZSTD:
+				try {
+					return CompressorUtil.createZstdInputStream(is);
+				} catch(LinkageError le){
+					throw new IOException("Arrow buffer is ZSTD compressed, which requires the Apache Commons Compress and Zstd-JNI libraries to be available", le);
+				}
+			default:
+				throw new IllegalArgumentException("Arrow compression codec " + CompressionType.name(codec) + " is not supported");
+		}
+	}
+
+	/**
+	 * Fixed-size lists are supported as far as their values are primitive (ie. not nested, not dictionary-encoded, not view-layout) values.
+	 */
+	static
+	private boolean isFixedSizeList(Field field){
+
+		if(field.typeType() != Type.FixedSizeList || field.childrenLength() != 1){
+			return false;
+		}
+
+		Field valueField = field.children(0);
+
+		if(valueField.childrenLength() > 0 || valueField.dictionary() != null){
+			return false;
+		}
+
+		switch(valueField.typeType()){
+			case Type.FixedSizeList:
+			case Type.BinaryView:
+			case Type.Utf8View:
+				return false;
+			default:
+				return true;
+		}
+	}
+
 	static
 	private boolean isEnum(Field field){
 
@@ -159,41 +657,30 @@ public class IPCUtil {
 	}
 
 	static
-	private Map<String, ?> parseRecordBatch(byte[] state, RecordBatch recordBatch, int bodyStart){
-		Map<String, Object> result = new HashMap<>();
-
-		result.put("length", recordBatch.length());
-
-		FieldNode node = recordBatch.nodes(0);
+	private ByteBuffer slice(ByteBuffer buffer, int offset, int length){
+		ByteBuffer result = buffer.duplicate();
 
-		result.put("nodes", Collections.singletonList(new long[]{node.length(), node.nullCount()}));
-		result.put("buffers", parseBuffers(state, recordBatch, bodyStart));
+		result.limit(offset + length);
+		result.position(offset);
 
-		return result;
+		return result.slice()
+			.order(ByteOrder.LITTLE_ENDIAN);
 	}
 
 	static
-	private List<byte[]> parseBuffers(byte[] state, RecordBatch recordBatch, int bodyStart){
-		List<byte[]> buffers = new ArrayList<>();
-
-		for(int i = 0; i < recordBatch.buffersLength(); i++){
-			org.apache.arrow.flatbuf.Buffer arrowBuffer = recordBatch.buffers(i);
-
-			int offset = Math.toIntExact(arrowBuffer.offset());
-			int length = Math.toIntExact(arrowBuffer.length());
-
-			byte[] arrowBufferBytes = new byte[length];
-
-			System.arraycopy(state, bodyStart + offset, arrowBufferBytes, 0, length);
+	private MessageInfo readMessage(byte headerType, ByteBuffer buffer, int offset){
+		MessageInfo messageInfo = readMessage(buffer, offset);
 
-			buffers.add(arrowBufferBytes);
+		Message message = messageInfo.getMessage();
+		if(message.headerType() != headerType){
+			throw new IllegalArgumentException();
 		}
 
-		return buffers;
+		return messageInfo;
 	}
 
 	static
-	private MessageInfo readMessage(byte headerType, ByteBuffer buffer, int offset){
+	private MessageInfo readMessage(ByteBuffer buffer, int offset){
 		int continuation = buffer.getInt(offset);
 		if(continuation != 0xFFFFFFFF){
 			throw new IllegalArgumentException();
@@ -208,15 +695,83 @@ public class IPCUtil {
 			.order(ByteOrder.LITTLE_ENDIAN);
 
 		Message message = Message.getRootAsMessage(metadataBuffer);
-		if(message.headerType() != headerType){
-			throw new IllegalArgumentException();
-		}
 
 		int nextOffset = metadataStart + metadataLength;
 
 		return new MessageInfo(message, nextOffset);
 	}
 
+	static
+	private class ColumnInfo {
+
+		private int typeType = -1;
+
+		private Map<String, Object> attributes = null;
+
+		private polars.series.Series series = null;
+
+		private List<Map<String, Object>> chunks = new ArrayList<>();
+
+
+		private ColumnInfo(int typeType, Map<String, Object> attributes, polars.series.Series series){
+			this.typeType = typeType;
+			this.attributes = attributes;
+			this.series = series;
+		}
+
+		public HashMap<String, Object> toState(){
+			HashMap<String, Object> result = new HashMap<>(this.attributes);
+
+			List<Map<String, Object>> chunks = this.chunks;
+
+			if(chunks.size() == 1){
+				result.putAll(chunks.get(0));
+			} else
+
+			{
+				List<polars.series.Series> chunkSeries = new ArrayList<>(chunks.size());
+
+				int length = 0;
+
+				for(Map<String, Object> chunk : chunks){
+					polars.series.Series series = new polars.series.Series();
+
+					series.putAll(this.attributes);
+					series.putAll(chunk);
+
+					chunkSeries.add(series);
+
+					length = Math.addExact(length, (Integer)chunk.get("length"));
+				}
+
+				result.put("length", length);
+				result.put("chunks", chunkSeries);
+			}
+
+			return result;
+		}
+
+		public int getTypeType(){
+			return this.typeType;
+		}
+
+		public Map<String, Object> getValueAttributes(){
+			return (Map)this.attributes.get("valueAttributes");
+		}
+
+		public polars.series.Series getSeries(){
+			return this.series;
+		}
+
+		public void addChunk(Map<String, Object> chunk){
+			this.chunks.add(chunk);
+		}
+
+		public void clearChunks(){
+			this.chunks.clear();
+		}
+	}
+
 	static
 	private class MessageInfo {
 
@@ -238,4 +793,6 @@ public class IPCUtil {
 			return this.nextOffset;
 		}
 	}
+
+	private static final long PARALLEL_DECOMPRESSION_THRESHOLD = 1024 * 1024;
 }
\ No newline at end of file
@@ -18,11 +18,16 @@
  */
 package numpy.core;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 
+import numpy.DType;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class NDArrayUtilTest {
 
@@ -43,5 +48,76 @@ public class NDArrayUtilTest {
 		array.put("fortran_order", Boolean.TRUE);
 
 		assertEquals(Arrays.asList("11", "13", "22", "12", "21", "23"), NDArrayUtil.getContent(array));
+		assertEquals(Arrays.asList("12", "21", "23"), NDArrayUtil.getRowContent(array, 1));
+
+		array.clearContent();
+		array.put("data", Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7));
+		array.put("shape", new Object[]{2, 2, 2});
+
+		assertEquals(Arrays.asList(0, 4, 2, 6, 1, 5, 3, 7), NDArrayUtil.getContent(array));
+		assertEquals(Arrays.asList(1, 5, 3, 7), NDArrayUtil.getRowContent(array, 1));
+	}
+
+	@Test
+	public void getDoubleContent(){
+		ByteBuffer buffer = ByteBuffer.allocate(6 * 8)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		for(int i = 0; i < 6; i++){
+			buffer.putDouble(i + 1d);
+		}
+
+		NDArray array = new NDArray();
+		array.__setstate__(new Object[]{null, new Object[]{2, 3}, createDType("<", "f8"), Boolean.FALSE, buffer.array()});
+
+		double[] values = array.getDoubleContent();
+
+		assertArrayEquals(new double[]{1d, 2d, 3d, 4d, 5d, 6d}, values);
+		assertSame(values, array.getDoubleContent());
+
+		assertEquals(Arrays.asList(1d, 2d, 3d, 4d, 5d, 6d), array.getArrayContent());
+
+		array.clearContent();
+		array.put("fortran_order", Boolean.TRUE);
+
+		assertArrayEquals(new double[]{1d, 3d, 5d, 2d, 4d, 6d}, array.getDoubleContent());
+		assertEquals(Arrays.asList(1d, 3d, 5d, 2d, 4d, 6d), array.getArrayContent());
+	}
+
+	@Test
+	public void getLongContent(){
+		ByteBuffer buffer = ByteBuffer.allocate(3 * 4)
+			.order(ByteOrder.BIG_ENDIAN);
+
+		buffer.putInt(-1);
+		buffer.putInt(0);
+		buffer.putInt(1);
+
+		NDArray array = new NDArray();
+		array.__setstate__(new Object[]{null, new Object[]{3}, createDType(">", "i4"), Boolean.FALSE, buffer.array()});
+
+		assertArrayEquals(new long[]{-1L, 0L, 1L}, array.getLongContent());
+		assertArrayEquals(new double[]{-1d, 0d, 1d}, array.getDoubleContent());
+
+		assertEquals(Arrays.asList(-1, 0, 1), array.getArrayContent());
+	}
+
+	@Test
+	public void getBooleanContent(){
+		NDArray array = new NDArray();
+		array.__setstate__(new Object[]{null, new Object[]{3}, createDType("|", "b1"), Boolean.FALSE, new byte[]{0, 1, 0}});
+
+		assertArrayEquals(new boolean[]{false, true, false}, array.getBooleanContent());
+
+		assertEquals(Arrays.asList(false, true, false), array.getArrayContent());
+	}
+
+	static
+	private DType createDType(String order, String obj){
+		DType dtype = new DType("numpy", "dtype");
+		dtype.__init__(new Object[]{obj, false, true});
+		dtype.__setstate__(new Object[]{3, order, null, null, null, -1, -1, 0});
+
+		return dtype;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package numpy.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.primitives.Ints;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StridedListTest {
+
+	@Test
+	public void cOrder(){
+		List<Integer> values = Ints.asList(0, 1, 2, 3, 4, 5);
+
+		StridedList<Integer> view = StridedList.forCOrder(values, new int[]{2, 3});
+
+		assertEquals(values, view);
+
+		assertEquals(Arrays.asList(3, 4, 5), view.getRow(1));
+		assertEquals(Arrays.asList(1, 4), view.getColumn(1));
+
+		StridedList<Integer> transposedView = view.transpose();
+
+		assertArrayEquals(new int[]{3, 2}, transposedView.getShape());
+		assertEquals(Arrays.asList(0, 3, 1, 4, 2, 5), transposedView);
+		assertEquals(Arrays.asList(2, 5), transposedView.getRow(2));
+	}
+
+	@Test
+	public void fortranOrder(){
+		List<Integer> values = Ints.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+
+		// Element (i, j, k) is stored at position i + 2 * j + 4 * k
+		StridedList<Integer> view = StridedList.forFortranOrder(values, new int[]{2, 2, 3});
+
+		assertEquals(Arrays.asList(0, 4, 8, 2, 6, 10, 1, 5, 9, 3, 7, 11), view);
+
+		assertEquals(Arrays.asList(1, 5, 9, 3, 7, 11), view.getRow(1));
+		assertEquals(Arrays.asList(3, 7, 11), view.getRow(1).getRow(1));
+
+		assertEquals(values, view.transpose());
+	}
+}
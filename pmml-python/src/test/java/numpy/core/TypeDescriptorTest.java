@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package numpy.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TypeDescriptorTest {
+
+	@Test
+	public void readArray() throws IOException {
+		byte[] bytes = {(byte)0xFF, (byte)0xFE, 0x00, 0x01};
+
+		assertArrayEquals(new int[]{255, 254, 0, 1}, (int[])readArray("|u1", bytes, 4));
+		assertArrayEquals(new byte[]{-1, -2, 0, 1}, (byte[])readArray("|i1", bytes, 4));
+
+		assertArrayEquals(new int[]{0xFEFF, 0x0100}, (int[])readArray("<u2", bytes, 2));
+		assertArrayEquals(new int[]{0xFFFE, 0x0001}, (int[])readArray(">u2", bytes, 2));
+		assertArrayEquals(new short[]{(short)0xFFFE, (short)0x0001}, (short[])readArray(">i2", bytes, 2));
+
+		assertArrayEquals(new long[]{0xFFFE0001L}, (long[])readArray(">u4", bytes, 1));
+		assertArrayEquals(new int[]{0xFFFE0001}, (int[])readArray(">i4", bytes, 1));
+
+		assertThrows(EOFException.class, () -> readArray("<f8", bytes, 1));
+	}
+
+	static
+	private Object readArray(String descr, byte[] bytes, int length) throws IOException {
+		TypeDescriptor descriptor = new TypeDescriptor(descr);
+
+		try(InputStream is = new ByteArrayInputStream(bytes)){
+			return descriptor.readArray(is, length);
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package numpy.lib;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import numpy.core.NDArray;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class NpyReaderTest {
+
+	@Test
+	public void readArray() throws IOException {
+		double[] values = {1d, 2d, 3d, 4d, 5d, 6d};
+
+		for(int majorVersion : new int[]{1, 2, 3}){
+
+			try(NpyReader reader = new NpyReader(new ByteArrayInputStream(createNpy(majorVersion, "<f8", false, "(3, 2)", values)))){
+				assertEquals(majorVersion, reader.getMajorVersion());
+				assertArrayEquals(new Object[]{3, 2}, reader.getShape());
+
+				NDArray array = reader.readArray();
+
+				assertEquals(Arrays.asList(1d, 2d, 3d, 4d, 5d, 6d), array.getContent());
+
+				assertThrows(IllegalStateException.class, () -> reader.readArray());
+			}
+		}
+	}
+
+	@Test
+	public void readDoubleChunks() throws IOException {
+		double[] values = {1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d, 9d, 10d};
+
+		try(NpyReader reader = new NpyReader(new ByteArrayInputStream(createNpy(1, "<f8", false, "(5, 2)", values)))){
+			List<double[]> chunks = new ArrayList<>();
+
+			for(Iterator<double[]> it = reader.readDoubleChunks(2); it.hasNext(); ){
+				chunks.add(it.next());
+			}
+
+			assertEquals(3, chunks.size());
+
+			assertArrayEquals(new double[]{1d, 2d, 3d, 4d}, chunks.get(0));
+			assertArrayEquals(new double[]{5d, 6d, 7d, 8d}, chunks.get(1));
+			assertArrayEquals(new double[]{9d, 10d}, chunks.get(2));
+		}
+
+		try(NpyReader reader = new NpyReader(new ByteArrayInputStream(createNpy(1, "<f8", true, "(5, 2)", values)))){
+			assertThrows(IllegalStateException.class, () -> reader.readDoubleChunks(2));
+		}
+	}
+
+	@Test
+	public void readUnsignedLongChunks() throws IOException {
+		long[] values = {0L, 1L, Long.MAX_VALUE, Long.MIN_VALUE, -1L};
+
+		try(NpyReader reader = new NpyReader(new ByteArrayInputStream(createNpy(1, "<u8", false, "(5,)", values)))){
+			double[] chunk = reader.readDoubleChunks(10).next();
+
+			assertArrayEquals(new double[]{0d, 1d, 0x1p63, 0x1p63, 0x1p64}, chunk);
+		}
+	}
+
+	@Test
+	public void readNpz(@TempDir File tmpDir) throws IOException {
+		File file = new File(tmpDir, "arrays.npz");
+
+		try(ZipOutputStream zipOs = new ZipOutputStream(new FileOutputStream(file))){
+			putEntry(zipOs, "first.npy", createNpy(1, "<f8", false, "(2,)", new double[]{1d, 2d}));
+			putEntry(zipOs, "second.npy", createNpy(1, "<f8", false, "(3,)", new double[]{3d, 4d, 5d}));
+		}
+
+		try(NpzFile npzFile = new NpzFile(file)){
+			assertEquals(Arrays.asList("first", "second"), new ArrayList<>(npzFile.keySet()));
+
+			NDArray array = npzFile.get("second");
+
+			assertEquals(Arrays.asList(3d, 4d, 5d), array.getContent());
+
+			try(NpyReader reader = npzFile.open("first")){
+				assertArrayEquals(new double[]{1d, 2d}, reader.readDoubleChunks(10).next());
+			}
+
+			assertThrows(IllegalArgumentException.class, () -> npzFile.open("third"));
+		}
+	}
+
+	static
+	private byte[] createNpy(int majorVersion, String descr, boolean fortranOrder, String shape, double[] values) throws IOException {
+		ByteBuffer dataBuffer = ByteBuffer.allocate(values.length * 8)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		dataBuffer.asDoubleBuffer().put(values);
+
+		return createNpy(majorVersion, descr, fortranOrder, shape, dataBuffer.array());
+	}
+
+	static
+	private byte[] createNpy(int majorVersion, String descr, boolean fortranOrder, String shape, long[] values) throws IOException {
+		ByteBuffer dataBuffer = ByteBuffer.allocate(values.length * 8)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		dataBuffer.asLongBuffer().put(values);
+
+		return createNpy(majorVersion, descr, fortranOrder, shape, dataBuffer.array());
+	}
+
+	static
+	private byte[] createNpy(int majorVersion, String descr, boolean fortranOrder, String shape, byte[] data) throws IOException {
+		String header = "{'descr': '" + descr + "', 'fortran_order': " + (fortranOrder ? "True" : "False") + ", 'shape': " + shape + ", }\n";
+
+		byte[] headerBytes = header.getBytes(majorVersion < 3 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+		os.write(new byte[]{(byte)0x93, 'N', 'U', 'M', 'P', 'Y', (byte)majorVersion, 0});
+
+		ByteBuffer lengthBuffer = ByteBuffer.allocate(4)
+			.order(ByteOrder.LITTLE_ENDIAN)
+			.putInt(headerBytes.length);
+
+		os.write(lengthBuffer.array(), 0, (majorVersion == 1 ? 2 : 4));
+		os.write(headerBytes);
+		os.write(data);
+
+		return os.toByteArray();
+	}
+
+	static
+	private void putEntry(ZipOutputStream zipOs, String name, byte[] bytes) throws IOException {
+		zipOs.putNextEntry(new ZipEntry(name));
+		zipOs.write(bytes);
+		zipOs.closeEntry();
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class CompressedInputStreamStorageTest {
+
+	@Test
+	public void detectType() throws IOException {
+		assertEquals(CompressedInputStreamStorage.Type.ZLIB, detectType(0x78, 0x9C));
+		assertEquals(CompressedInputStreamStorage.Type.COMPAT, detectType('Z', 'F', '0', 'x'));
+		assertEquals(CompressedInputStreamStorage.Type.GZIP, detectType(0x1F, 0x8B, 0x08));
+		assertEquals(CompressedInputStreamStorage.Type.BZ2, detectType('B', 'Z', 'h'));
+		assertEquals(CompressedInputStreamStorage.Type.XZ, detectType(0xFD, '7', 'z', 'X', 'Z', 0x00));
+		assertEquals(CompressedInputStreamStorage.Type.LZMA, detectType(0x5D, 0x00, 0x00));
+		assertEquals(CompressedInputStreamStorage.Type.LZ4, detectType(0x04, 0x22, 0x4D, 0x18));
+		assertEquals(CompressedInputStreamStorage.Type.ZSTD, detectType(0x28, 0xB5, 0x2F, 0xFD));
+
+		// Pickle protocol 2+
+		assertNull(detectType(0x80, 0x04));
+
+		assertNull(detectType(0x78));
+		assertNull(detectType());
+	}
+
+	@Test
+	public void readGzip() throws IOException {
+		String string = "Hello World!";
+
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+		try(GZIPOutputStream gzipOs = new GZIPOutputStream(os)){
+			gzipOs.write(string.getBytes(StandardCharsets.UTF_8));
+		}
+
+		assertEquals(string, read(os.toByteArray()));
+	}
+
+	@Test
+	public void readLz4() throws IOException {
+		// Independent blocks, with a content checksum
+		int[] bytes = {
+			0x04, 0x22, 0x4D, 0x18, 0x64, 0x40, 0x00,
+			// Compressed block
+			0x0C, 0x00, 0x00, 0x00, 0x3D, 'a', 'b', 'c', 0x03, 0x00, 0x50, 'c', 'a', 'b', 'c', '!',
+			// Uncompressed block
+			0x03, 0x00, 0x00, 0x80, 'x', 'y', 'z',
+			// End mark
+			0x00, 0x00, 0x00, 0x00,
+			// Content checksum
+			0x00, 0x00, 0x00, 0x00
+		};
+
+		assertEquals("abcabcabcabcabcabcabcabc!xyz", read(toByteArray(bytes)));
+	}
+
+	static
+	private CompressedInputStreamStorage.Type detectType(int... bytes) throws IOException {
+		PushbackInputStream is = new PushbackInputStream(new ByteArrayInputStream(toByteArray(bytes)), 2);
+
+		return CompressedInputStreamStorage.detectType(is);
+	}
+
+	static
+	private String read(byte[] bytes) throws IOException {
+
+		try(Storage storage = new CompressedInputStreamStorage(new ByteArrayInputStream(bytes))){
+			InputStream is = storage.getObject();
+
+			return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	static
+	private byte[] toByteArray(int... values){
+		byte[] result = new byte[values.length];
+
+		for(int i = 0; i < values.length; i++){
+			result[i] = (byte)values[i];
+		}
+
+		return result;
+	}
+}
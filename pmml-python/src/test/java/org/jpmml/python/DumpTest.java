@@ -620,6 +620,16 @@ public class DumpTest extends UnpicklerTest {
 		assertEquals(expectedOrdered, dtype.getOrdered());
 
 		assertNotNull(dtype.getDescr());
+
+		int[] codes = categorical.getCategoryCodes();
+
+		assertEquals((categorical.getArrayContent()).size(), codes.length);
+
+		List<?> values = CategoricalArrayUtil.getContent(categorical);
+
+		for(int i = 0; i < codes.length; i++){
+			assertEquals(codes[i] == -1 ? null : expectedCategories.get(codes[i]), values.get(i));
+		}
 	}
 
 	private void unpicklePandasDateTimeDataFrame(String prefix) throws IOException {
@@ -647,6 +657,8 @@ public class DumpTest extends UnpicklerTest {
 		assertEquals(truncateToUnit(rows, ChronoUnit.DAYS), columnFunction.apply(3));
 		assertEquals(truncateToMonth(rows), columnFunction.apply(4));
 		assertEquals(truncateToYear(rows), columnFunction.apply(5));
+
+		assertEquals(truncateToUnit(rows, ChronoUnit.MINUTES), (dataFrame.getColumn("m")).getArrayContent());
 	}
 
 	private void unpicklePandasDataFrame(String prefix) throws IOException {
@@ -663,6 +675,17 @@ public class DumpTest extends UnpicklerTest {
 		assertEquals(Arrays.asList(0L, 1L, 2L), columnFunction.apply(1));
 		assertEquals(Arrays.asList(0d, 1d, 2d), columnFunction.apply(2));
 		assertEquals(Arrays.asList("zero", "one", "two"), columnFunction.apply(3));
+
+		assertEquals(columns, dataFrame.getColumnNames());
+
+		assertEquals(Arrays.asList(0L, 1L, 2L), (dataFrame.getColumn("int")).getArrayContent());
+		assertEquals(Arrays.asList("zero", "one", "two"), (dataFrame.getColumn("str")).getArrayContent());
+
+		List<String> names = dataFrame.streamColumns()
+			.map(Series::getName)
+			.collect(Collectors.toList());
+
+		assertEquals(columns, names);
 	}
 
 	private void unpicklePandasDtypes(String prefix) throws IOException {
@@ -713,9 +736,11 @@ public class DumpTest extends UnpicklerTest {
 	}
 
 	private void unpicklePolarsSeriesNA(String name, int expectedSize) throws IOException {
-		HasArray series = (HasArray)unpickle(name);
+		polars.series.Series series = (polars.series.Series)unpickle(name);
 
 		checkSeriesNA(series, expectedSize);
+
+		assertNull(series.getCategoricalArray());
 	}
 
 	private void unpicklePolarsCategorical(String prefix) throws IOException {
@@ -724,12 +749,16 @@ public class DumpTest extends UnpicklerTest {
 		polars.series.Series categoricalSeries = (polars.series.Series)unpickle(prefix + "_categorical_str.pkl");
 		checkSeries(categoricalSeries, expectedValues);
 
+		assertEquals(expectedValues, CategoricalArrayUtil.getContent(categoricalSeries.getCategoricalArray()));
+
 		polars.datatypes.Categorical categoricalDtype = (polars.datatypes.Categorical)categoricalSeries.getDType();
 		assertNotNull(categoricalDtype);
 
 		polars.series.Series enumSeries = (polars.series.Series)unpickle(prefix + "_enum_str.pkl");
 		checkSeries(enumSeries, expectedValues);
 
+		assertEquals(expectedValues, CategoricalArrayUtil.getContent(enumSeries.getCategoricalArray()));
+
 		polars.datatypes.Enum enumDtype = (polars.datatypes.Enum)enumSeries.getDType();
 		assertEquals(Arrays.asList("a", "e", "b", "d", "c"), (enumDtype.getCategories()).getArrayContent());
 	}
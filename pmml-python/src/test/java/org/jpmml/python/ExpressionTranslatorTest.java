@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.dmg.pmml.Apply;
 import org.dmg.pmml.Constant;
 import org.dmg.pmml.DataField;
 import org.dmg.pmml.DataType;
@@ -44,11 +45,16 @@ import org.jpmml.evaluator.FieldValue;
 import org.jpmml.evaluator.FieldValueUtil;
 import org.jpmml.evaluator.VirtualEvaluationContext;
 import org.jpmml.model.ReflectionUtil;
+import org.jpmml.python.ast.Expr;
+import org.jpmml.python.ast.SyntaxTree;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -665,6 +671,170 @@ public class ExpressionTranslatorTest extends TranslatorTest {
 		checkExpression(expected, translateExpression(expressionTranslator, string));
 	}
 
+	@Test
+	public void translateCachedExpression(){
+		TranslationCache translationCache = new TranslationCache(16);
+
+		ExpressionTranslator expressionTranslator = new ExpressionTranslator(new DataFrameScope(doubleFeatures));
+		expressionTranslator.setTranslationCache(translationCache);
+
+		Expression expected = ExpressionUtil.createApply(PMMLFunctions.ADD,
+			fieldRefs.get("a"),
+			fieldRefs.get("b")
+		);
+
+		String string = "X[0] + X[1]";
+
+		Expression first = translateExpression(expressionTranslator, string);
+
+		checkExpression(expected, first);
+
+		assertEquals(0L, translationCache.getHitCount());
+		assertEquals(1L, translationCache.getMissCount());
+
+		expressionTranslator = new ExpressionTranslator(new DataFrameScope(doubleFeatures));
+		expressionTranslator.setTranslationCache(translationCache);
+
+		Expression second = translateExpression(expressionTranslator, string);
+
+		checkExpression(expected, second);
+
+		assertNotSame(first, second);
+
+		assertEquals(1L, translationCache.getHitCount());
+		assertEquals(1L, translationCache.getMissCount());
+
+		expressionTranslator = new ExpressionTranslator(new DataFrameScope(stringFeatures));
+		expressionTranslator.setTranslationCache(translationCache);
+
+		translateExpression(expressionTranslator, string);
+
+		assertEquals(1L, translationCache.getHitCount());
+		assertEquals(2L, translationCache.getMissCount());
+
+		assertEquals(2, translationCache.size());
+	}
+
+	@Test
+	public void translateCachedDeduplicatedExpression(){
+		PMMLEncoder encoder = new PMMLEncoder();
+
+		List<Feature> features = Arrays.asList(
+			new ContinuousFeature(encoder, "a", DataType.DOUBLE),
+			new ContinuousFeature(encoder, "b", DataType.DOUBLE)
+		);
+
+		TranslationCache translationCache = new TranslationCache(16);
+
+		ExpressionTranslator expressionTranslator = new ExpressionTranslator(new DataFrameScope(features, encoder));
+		expressionTranslator.setTranslationCache(translationCache);
+		expressionTranslator.setCommonSubexpressionEliminator(new CommonSubexpressionEliminator(encoder));
+
+		String string = "(X[0] + X[1]) * 2";
+
+		translateExpression(expressionTranslator, string);
+
+		Expression second = translateExpression(expressionTranslator, "(X[0] + X[1]) / X[1]");
+
+		FieldRef sumFieldRef = (FieldRef)((Apply)second).getExpressions().get(0);
+
+		assertEquals(0L, translationCache.getHitCount());
+
+		Expression third = translateExpression(expressionTranslator, string);
+
+		assertEquals(1L, translationCache.getHitCount());
+
+		// The cache hit is deduplicated against earlier translations
+		DerivedField derivedField = encoder.getDerivedField(((FieldRef)third).requireField());
+
+		checkExpression(ExpressionUtil.createApply(PMMLFunctions.MULTIPLY, sumFieldRef, ExpressionUtil.createConstant(DataType.INTEGER, 2)), derivedField.requireExpression());
+	}
+
+	@Test
+	public void translateParsedExpression(){
+		ExpressionTranslator expressionTranslator = new ExpressionTranslator(new DataFrameScope(doubleFeatures));
+
+		SyntaxTree<Expr> syntaxTree = expressionTranslator.parseExpression("X[0] + X[1]");
+
+		Expression expected = ExpressionUtil.createApply(PMMLFunctions.ADD,
+			fieldRefs.get("a"),
+			fieldRefs.get("b")
+		);
+
+		checkExpression(expected, expressionTranslator.translateExpression(syntaxTree, false));
+		checkExpression(expected, expressionTranslator.translateExpression(syntaxTree, false));
+
+		List<Feature> reversedDoubleFeatures = Arrays.asList(doubleFeatures.get(2), doubleFeatures.get(1), doubleFeatures.get(0));
+
+		expressionTranslator = new ExpressionTranslator(new DataFrameScope(reversedDoubleFeatures));
+
+		expected = ExpressionUtil.createApply(PMMLFunctions.ADD,
+			fieldRefs.get("c"),
+			fieldRefs.get("b")
+		);
+
+		checkExpression(expected, expressionTranslator.translateExpression(syntaxTree, false));
+
+		expected = ExpressionUtil.createApply(PMMLFunctions.MULTIPLY,
+			fieldRefs.get("b"),
+			fieldRefs.get("a")
+		);
+
+		checkExpression(expected, translateExpression(expressionTranslator, "X[1] * X[2]"));
+
+		ExpressionTranslator failingExpressionTranslator = new ExpressionTranslator(new DataFrameScope(doubleFeatures));
+
+		ExpressionTranslationException exception = assertThrows(ExpressionTranslationException.class, () -> failingExpressionTranslator.parseExpression("X[0] +"));
+
+		assertInstanceOf(ParseException.class, exception.getCause());
+
+		expected = ExpressionUtil.createApply(PMMLFunctions.SUBTRACT,
+			fieldRefs.get("a"),
+			fieldRefs.get("b")
+		);
+
+		checkExpression(expected, translateExpression(failingExpressionTranslator, "X[0] - X[1]"));
+	}
+
+	@Test
+	public void translatePooledExpression(){
+		TranslatorPool<ExpressionTranslator> translatorPool = TranslatorPool.forExpressionTranslators();
+
+		ExpressionTranslator expressionTranslator = translatorPool.acquire(new DataFrameScope(doubleFeatures));
+
+		Expression expected = ExpressionUtil.createApply(PMMLFunctions.ADD,
+			fieldRefs.get("a"),
+			fieldRefs.get("b")
+		);
+
+		checkExpression(expected, translateExpression(expressionTranslator, "X[0] + X[1]"));
+
+		assertThrows(ExpressionTranslationException.class, () -> translateExpression(expressionTranslator, "X[0] +"));
+
+		expressionTranslator.setTranslationCache(new TranslationCache(16));
+		expressionTranslator.setCommonSubexpressionEliminator(new CommonSubexpressionEliminator(new PMMLEncoder()));
+		expressionTranslator.setSimplify(true);
+
+		translatorPool.release(expressionTranslator);
+
+		ExpressionTranslator reusedExpressionTranslator = translatorPool.acquire(new BlockScope(doubleFeatures));
+
+		assertSame(expressionTranslator, reusedExpressionTranslator);
+
+		assertNull(reusedExpressionTranslator.getTranslationCache());
+		assertNull(reusedExpressionTranslator.getCommonSubexpressionEliminator());
+		assertFalse(reusedExpressionTranslator.isSimplify());
+
+		expected = ExpressionUtil.createApply(PMMLFunctions.ADD,
+			fieldRefs.get("c"),
+			fieldRefs.get("b")
+		);
+
+		checkExpression(expected, translateExpression(reusedExpressionTranslator, "c + b"));
+
+		translatorPool.release(reusedExpressionTranslator);
+	}
+
 	@Test
 	public void translateFloorDivideExpression(){
 		ExpressionTranslator expressionTranslator = new ExpressionTranslator(new DataFrameScope(doubleFeatures));
@@ -730,6 +900,198 @@ public class ExpressionTranslatorTest extends TranslatorTest {
 		checkExpression(expected, defineFunction.requireExpression());
 	}
 
+	@Test
+	public void translateSimplifiedExpression(){
+		ExpressionTranslator expressionTranslator = new ExpressionTranslator(new DataFrameScope(doubleFeatures));
+
+		Expression expected = ExpressionUtil.createApply(PMMLFunctions.ADD,
+			fieldRefs.get("a"),
+			ExpressionUtil.createConstant(DataType.INTEGER, 0)
+		);
+
+		// Disabled by default
+		checkExpression(expected, translateExpression(expressionTranslator, "X[0] + 0", true));
+
+		expressionTranslator.setSimplify(true);
+
+		expected = fieldRefs.get("a");
+
+		String[] strings = {"X[0] * 1.0 + 0", "0 + 1 * X[0] - 0", "X[0] ** 1", "X[0] / 1.0", "X[0] if True else X[1]"};
+		for(String string : strings){
+			checkExpression(expected, translateExpression(expressionTranslator, string, true));
+		}
+
+		// Not an identity where exp(x) overflows
+		expected = ExpressionUtil.createApply(PMMLFunctions.LN,
+			ExpressionUtil.createApply(PMMLFunctions.EXP, fieldRefs.get("a"))
+		);
+
+		checkExpression(expected, translateExpression(expressionTranslator, "numpy.log(numpy.exp(X[0]))", true));
+
+		// The taken branch has a different data type than the conditional expression
+		expected = ExpressionUtil.createApply(PMMLFunctions.IF,
+			ExpressionUtil.createConstant(DataType.BOOLEAN, false),
+			fieldRefs.get("a"),
+			ExpressionUtil.createConstant(DataType.INTEGER, 1)
+		);
+
+		checkExpression(expected, translateExpression(expressionTranslator, "X[0] if False else 1", true));
+
+		expected = ExpressionUtil.createApply(PMMLFunctions.MULTIPLY,
+			ExpressionUtil.createConstant(DataType.INTEGER, 8),
+			fieldRefs.get("b")
+		);
+
+		checkExpression(expected, translateExpression(expressionTranslator, "2 ** 3 * X[1]", true));
+
+		expected = ExpressionUtil.createApply(PMMLFunctions.ADD,
+			fieldRefs.get("b"),
+			ExpressionUtil.createConstant(DataType.DOUBLE, 1.5d)
+		);
+
+		checkExpression(expected, translateExpression(expressionTranslator, "X[1] + 3 / 2.0", true));
+
+		expressionTranslator = new ExpressionTranslator(new DataFrameScope(stringFeatures));
+		expressionTranslator.setSimplify(true);
+
+		expected = ExpressionUtil.createApply(PMMLFunctions.ADD,
+			fieldRefs.get("a"),
+			ExpressionUtil.createConstant(DataType.INTEGER, 0)
+		);
+
+		checkExpression(expected, translateExpression(expressionTranslator, "X[0] + 0", true));
+	}
+
+	@Test
+	public void translateSimplifiedCastExpression(){
+		PMMLEncoder encoder = new PMMLEncoder();
+
+		List<Feature> features = Arrays.asList(
+			new ContinuousFeature(encoder, "a", DataType.DOUBLE),
+			new ContinuousFeature(encoder, "b", DataType.DOUBLE)
+		);
+
+		ExpressionTranslator expressionTranslator = new ExpressionTranslator(new DataFrameScope(features, encoder));
+		expressionTranslator.setSimplify(true);
+
+		checkExpression(fieldRefs.get("a"), translateExpression(expressionTranslator, "float(X[0])", true));
+
+		// The cast function is not left behind
+		assertNull(encoder.getDefineFunction("float"));
+
+		expressionTranslator.setSimplify(false);
+
+		Expression cast = translateExpression(expressionTranslator, "float(X[0])", true);
+
+		DefineFunction defineFunction = encoder.getDefineFunction("float");
+
+		checkExpression(ExpressionUtil.createApply(defineFunction, fieldRefs.get("a")), cast);
+
+		expressionTranslator.setSimplify(true);
+
+		checkExpression(fieldRefs.get("a"), translateExpression(expressionTranslator, "float(X[0])", true));
+
+		// The cast function is referenced by an earlier translation result
+		assertSame(defineFunction, encoder.getDefineFunction("float"));
+	}
+
+	@Test
+	public void translateDeduplicatedExpression(){
+		PMMLEncoder encoder = new PMMLEncoder();
+
+		List<Feature> features = Arrays.asList(
+			new ContinuousFeature(encoder, "a", DataType.DOUBLE),
+			new ContinuousFeature(encoder, "b", DataType.DOUBLE)
+		);
+
+		CommonSubexpressionEliminator commonSubexpressionEliminator = new CommonSubexpressionEliminator(encoder);
+
+		ExpressionTranslator expressionTranslator = new ExpressionTranslator(new DataFrameScope(features, encoder));
+		expressionTranslator.setCommonSubexpressionEliminator(commonSubexpressionEliminator);
+
+		Expression sum = ExpressionUtil.createApply(PMMLFunctions.ADD,
+			fieldRefs.get("a"),
+			fieldRefs.get("b")
+		);
+
+		Expression first = translateExpression(expressionTranslator, "(X[0] + X[1]) * 2");
+
+		checkExpression(ExpressionUtil.createApply(PMMLFunctions.MULTIPLY, sum, ExpressionUtil.createConstant(DataType.INTEGER, 2)), first);
+
+		Expression second = translateExpression(expressionTranslator, "(X['a'] + X['b']) / X['b']");
+
+		Apply secondApply = (Apply)second;
+
+		FieldRef fieldRef = (FieldRef)secondApply.getExpressions().get(0);
+
+		DerivedField derivedField = encoder.getDerivedField(fieldRef.requireField());
+
+		checkExpression(sum, derivedField.requireExpression());
+
+		checkExpression(ExpressionUtil.createApply(PMMLFunctions.MULTIPLY, fieldRef, ExpressionUtil.createConstant(DataType.INTEGER, 2)), first);
+		checkExpression(ExpressionUtil.createApply(PMMLFunctions.DIVIDE, fieldRef, fieldRefs.get("b")), second);
+
+		Expression third = translateExpression(expressionTranslator, "X[0] + X[1]");
+
+		checkExpression(fieldRef, third);
+
+		Expression fourth = translateExpression(expressionTranslator, "(X[0] + X[1]) * 2");
+
+		derivedField = encoder.getDerivedField(((FieldRef)fourth).requireField());
+
+		checkExpression(ExpressionUtil.createApply(PMMLFunctions.MULTIPLY, fieldRef, ExpressionUtil.createConstant(DataType.INTEGER, 2)), derivedField.requireExpression());
+
+		ExpressionTranslator otherExpressionTranslator = new ExpressionTranslator(new DataFrameScope(features, new PMMLEncoder()));
+		otherExpressionTranslator.setCommonSubexpressionEliminator(commonSubexpressionEliminator);
+
+		IllegalArgumentException iae = assertThrows(IllegalArgumentException.class, () -> translateExpression(otherExpressionTranslator, "X[0] + X[1]"));
+
+		assertTrue((iae.getMessage()).contains("does not match eliminator encoder"));
+	}
+
+	@Test
+	public void translateBoundedDeduplicatedExpression(){
+		PMMLEncoder encoder = new PMMLEncoder();
+
+		List<Feature> features = Arrays.asList(
+			new ContinuousFeature(encoder, "a", DataType.DOUBLE),
+			new ContinuousFeature(encoder, "b", DataType.DOUBLE)
+		);
+
+		CommonSubexpressionEliminator commonSubexpressionEliminator = new CommonSubexpressionEliminator(encoder, 1);
+
+		ExpressionTranslator expressionTranslator = new ExpressionTranslator(new DataFrameScope(features, encoder));
+		expressionTranslator.setCommonSubexpressionEliminator(commonSubexpressionEliminator);
+
+		Expression sum = ExpressionUtil.createApply(PMMLFunctions.ADD,
+			fieldRefs.get("a"),
+			fieldRefs.get("b")
+		);
+
+		translateExpression(expressionTranslator, "X[0] + X[1]");
+
+		// Evicts the first occurrence of the sum
+		translateExpression(expressionTranslator, "X[0] * X[1]");
+
+		checkExpression(sum, translateExpression(expressionTranslator, "X[0] + X[1]"));
+
+		commonSubexpressionEliminator.reset();
+
+		checkExpression(sum, translateExpression(expressionTranslator, "X[0] + X[1]"));
+
+		Expression expression = translateExpression(expressionTranslator, "X[0] + X[1]");
+
+		assertTrue(expression instanceof FieldRef);
+
+		checkExpression(sum, (encoder.getDerivedField(((FieldRef)expression).requireField())).requireExpression());
+
+		expressionTranslator.reset(new DataFrameScope(features, encoder));
+
+		assertNull(expressionTranslator.getCommonSubexpressionEliminator());
+
+		assertThrows(IllegalArgumentException.class, () -> new CommonSubexpressionEliminator(encoder, 0));
+	}
+
 	@Test
 	public void translateStringConcatenationExpression(){
 		ExpressionTranslator expressionTranslator = new ExpressionTranslator(new DataFrameScope(stringFeatures));
@@ -802,7 +1164,7 @@ public class ExpressionTranslatorTest extends TranslatorTest {
 
 		ExpressionTranslationException exception = assertThrows(ExpressionTranslationException.class, () -> translateExpression(expressionTranslator, "X[[0]]"));
 
-		assertInstanceOf(OperationException.class, exception.getCause());
+		assertInstanceOf(ParseException.class, exception.getCause());
 
 		for(int i = 0; i < features.size(); i++){
 			Feature feature = features.get(i);
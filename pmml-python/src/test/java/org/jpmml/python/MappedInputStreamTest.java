@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedInputStreamTest {
+
+	@Test
+	public void readBuffer() throws IOException {
+		ByteBuffer first = ByteBuffer.wrap(new byte[]{0, 1, 2, 3});
+		ByteBuffer second = ByteBuffer.wrap(new byte[]{4, 5, 6, 7});
+
+		try(MappedInputStream is = new MappedInputStream(first, second)){
+			assertEquals(0, is.read());
+
+			ByteBuffer buffer = is.readBuffer(2);
+
+			assertTrue(buffer.isReadOnly());
+			assertFalse(buffer.hasArray());
+			assertEquals(2, buffer.remaining());
+			assertEquals(1, buffer.get(0));
+			assertEquals(2, buffer.get(1));
+
+			buffer = is.readBuffer(3);
+
+			assertEquals(3, buffer.remaining());
+			assertEquals(3, buffer.get(0));
+			assertEquals(5, buffer.get(2));
+
+			assertArrayEquals(new byte[]{6, 7}, is.readAllBytes());
+			assertEquals(-1, is.read());
+
+			assertThrows(EOFException.class, () -> is.readBuffer(1));
+		}
+	}
+}
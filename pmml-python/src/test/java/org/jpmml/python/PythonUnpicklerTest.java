@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.io.BaseEncoding;
+import net.razorvine.pickle.PickleException;
+import numpy.core.NDArray;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PythonUnpicklerTest extends UnpicklerTest {
+
+	@Test
+	public void loadOutOfBandBuffers() throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(4 * 8)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.asDoubleBuffer().put(new double[]{1d, 2d, 3d, 4d});
+
+		NDArray array = (NDArray)load(Collections.singletonList(buffer));
+
+		ByteBuffer data = (ByteBuffer)array.getData();
+
+		assertTrue(data.isReadOnly());
+		assertTrue(data.isDirect());
+
+		assertArrayEquals(new Object[]{2, 2}, array.getShape());
+		assertEquals(Arrays.asList(1d, 2d, 3d, 4d), array.getContent());
+
+		assertThrows(PickleException.class, () -> load(Collections.emptyList()));
+	}
+
+	static
+	private Object load(List<ByteBuffer> buffers) throws IOException {
+
+		try(Storage storage = new InputStreamStorage(new ByteArrayInputStream(PythonUnpicklerTest.OUT_OF_BAND_PICKLE))){
+			PythonUnpickler unpickler = new PythonUnpickler()
+				.setBuffers(buffers);
+
+			return unpickler.load(storage);
+		}
+	}
+
+	/**
+	 * <pre>
+	 * pickle.dumps(np.array([[1.0, 2.0], [3.0, 4.0]]), protocol = 5, buffer_callback = buffers.append)
+	 * </pre>
+	 */
+	private static final byte[] OUT_OF_BAND_PICKLE = BaseEncoding.base16().lowerCase().decode(
+		"8005956d000000000000008c126e756d70792e636f72652e6e756d65726963948c0b5f66726f6d6275666665729493942897988c056e756d7079948c0564747970659493948c02663894898887945294284b038c013c944e4e4e4affffffff4affffffff4b007494624b024b0286948c014394749452942e"
+	);
+}
@@ -64,4 +64,19 @@ public class SliceUtilTest {
 
 		assertEquals(Collections.emptyList(), SliceUtil.slice(values, null, -2));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void range(){
+		assertEquals(Arrays.asList(0, 1, 2, 3, 4), SliceUtil.range(0, 5, 1));
+		assertEquals(Arrays.asList(0, 3), SliceUtil.range(0, 5, 3));
+		assertEquals(Arrays.asList(5, 3, 1), SliceUtil.range(5, 0, -2));
+		assertEquals(Arrays.asList(-2, -1, 0), SliceUtil.range(-2, 1, 1));
+		assertEquals(Collections.emptyList(), SliceUtil.range(5, 0, 1));
+
+		List<Integer> values = SliceUtil.range(0, Integer.MAX_VALUE, 2);
+
+		assertEquals(Integer.MAX_VALUE / 2 + 1, values.size());
+		assertEquals(500, values.indexOf(1000));
+		assertEquals(-1, values.indexOf(1001));
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.InflaterInputStream;
+
+import numpy.core.NDArray;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StorageTest extends UnpicklerTest {
+
+	@Test
+	public void loadFile(@TempDir File tmpDir) throws IOException {
+		File file = new File(tmpDir, "joblib.pkl");
+
+		try(InputStream is = new InflaterInputStream(StorageTest.class.getResourceAsStream("/dump/python-3.11_joblib-1.4.2.pkl.z"))){
+			Files.copy(is, file.toPath());
+		}
+
+		List<NDArray> expectedArrays = collectArrays(load(file, false, false, false));
+
+		assertFalse(expectedArrays.isEmpty());
+
+		List<NDArray> mappedArrays = collectArrays(load(file, true, false, false));
+
+		assertTrue(mappedArrays.stream().anyMatch(array -> (array.getData() instanceof ByteBuffer)));
+
+		checkArrays(expectedArrays, mappedArrays);
+
+		List<NDArray> lazyArrays = collectArrays(load(file, false, true, false));
+
+		assertTrue(lazyArrays.stream().anyMatch(array -> (array.getData() instanceof FileRegion)));
+
+		checkArrays(expectedArrays, lazyArrays);
+
+		List<NDArray> parallelArrays = collectArrays(load(file, false, false, true));
+
+		checkArrays(expectedArrays, parallelArrays);
+
+		List<NDArray> mappedParallelArrays = collectArrays(load(file, true, false, true));
+
+		checkArrays(expectedArrays, mappedParallelArrays);
+	}
+
+	@Test
+	public void loadFileConcurrently(@TempDir File tmpDir) throws Exception {
+		File file = new File(tmpDir, "joblib.pkl");
+
+		try(InputStream is = new InflaterInputStream(StorageTest.class.getResourceAsStream("/dump/python-3.11_joblib-1.4.2.pkl.z"))){
+			Files.copy(is, file.toPath());
+		}
+
+		List<NDArray> expectedArrays = collectArrays(load(file, false, false, false));
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			List<Future<Object>> futures = new ArrayList<>();
+
+			for(int i = 0; i < 16; i++){
+				futures.add(executor.submit(() -> load(file, false, false, false)));
+			}
+
+			for(Future<Object> future : futures){
+				checkArrays(expectedArrays, collectArrays(future.get()));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	static
+	private Object load(File file, boolean map, boolean lazy, boolean parallel) throws IOException {
+
+		try(Storage storage = StorageUtil.createStorage(file, map)){
+			JoblibUnpickler unpickler = new JoblibUnpickler()
+				.setLazy(lazy)
+				.setParallel(parallel);
+
+			return unpickler.load(storage);
+		}
+	}
+
+	static
+	private void checkArrays(List<NDArray> expectedArrays, List<NDArray> arrays){
+		assertEquals(expectedArrays.size(), arrays.size());
+
+		for(int i = 0; i < expectedArrays.size(); i++){
+			NDArray expectedArray = expectedArrays.get(i);
+			NDArray array = arrays.get(i);
+
+			assertEquals(expectedArray.getContent(), array.getContent());
+		}
+	}
+
+	static
+	private List<NDArray> collectArrays(Object object){
+		List<NDArray> result = new ArrayList<>();
+
+		collectArrays(object, result, Collections.newSetFromMap(new IdentityHashMap<>()));
+
+		return result;
+	}
+
+	static
+	private void collectArrays(Object object, List<NDArray> result, Set<Object> visited){
+
+		if(object == null || !visited.add(object)){
+			return;
+		} // End if
+
+		if(object instanceof NDArray){
+			NDArray array = (NDArray)object;
+
+			result.add(array);
+		} else
+
+		if(object instanceof Map){
+			Map<?, ?> map = (Map<?, ?>)object;
+
+			for(Object value : map.values()){
+				collectArrays(value, result, visited);
+			}
+		} else
+
+		if(object instanceof Collection){
+			Collection<?> collection = (Collection<?>)object;
+
+			for(Object element : collection){
+				collectArrays(element, result, visited);
+			}
+		} else
+
+		if(object instanceof Object[]){
+			Object[] elements = (Object[])object;
+
+			for(Object element : elements){
+				collectArrays(element, result, visited);
+			}
+		}
+	}
+}
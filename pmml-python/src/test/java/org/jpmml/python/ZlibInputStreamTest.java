@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jpmml.python;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.DeflaterOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class ZlibInputStreamTest {
+
+	@Test
+	public void read() throws IOException {
+		byte[] bytes = createBytes(100_000);
+		byte[] compressedBytes = compress(bytes);
+
+		try(InputStream is = new ZlibInputStream(new ByteArrayInputStream(compressedBytes))){
+			assertArrayEquals(bytes, is.readAllBytes());
+			assertEquals(-1, is.read());
+		}
+
+		try(InputStream is = new ZlibInputStream(new ByteArrayInputStream(compressedBytes), 7)){
+			assertEquals(bytes[0] & 0xFF, is.read());
+			assertEquals(10, is.skip(10));
+			assertEquals(bytes[11] & 0xFF, is.read());
+
+			byte[] remainingBytes = is.readAllBytes();
+
+			assertEquals(bytes.length - 12, remainingBytes.length);
+			assertEquals(bytes[bytes.length - 1], remainingBytes[remainingBytes.length - 1]);
+		}
+	}
+
+	@Test
+	public void readAhead() throws IOException {
+		byte[] bytes = createBytes(100_000);
+		byte[] compressedBytes = compress(bytes);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+			try(InputStream is = new ReadAheadInputStream(new ZlibInputStream(new ByteArrayInputStream(compressedBytes)), executor, 1000, 2)){
+				assertArrayEquals(bytes, is.readAllBytes());
+				assertEquals(-1, is.read());
+			}
+
+			// Close before the producer has finished
+			try(InputStream is = new ReadAheadInputStream(new ZlibInputStream(new ByteArrayInputStream(compressedBytes)), executor, 1000, 2)){
+				assertEquals(bytes[0] & 0xFF, is.read());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void readAheadFailure() throws IOException {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+			try(InputStream is = new ReadAheadInputStream(new FailingInputStream(new IOException("Broken")), executor, 10, 2)){
+				assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+					assertThrows(IOException.class, () -> is.readAllBytes());
+					assertThrows(IOException.class, () -> is.read());
+				});
+			}
+
+			try(InputStream is = new ReadAheadInputStream(new FailingInputStream(new OutOfMemoryError("Broken")), executor, 10, 2)){
+				assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+					assertThrows(OutOfMemoryError.class, () -> is.readAllBytes());
+					assertThrows(OutOfMemoryError.class, () -> is.read());
+				});
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void readAheadCloseFailure() throws IOException {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		InputStream in = new ByteArrayInputStream(new byte[10]){
+
+			@Override
+			public void close() throws IOException {
+				throw new IOException("Broken trailer");
+			}
+		};
+
+		try {
+			try(InputStream is = new ReadAheadInputStream(in, executor, 10, 2)){
+				assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+					IOException ioe = assertThrows(IOException.class, () -> is.readAllBytes());
+
+					assertEquals("Broken trailer", ioe.getMessage());
+				});
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void readAheadInterruption() throws IOException {
+		Thread[] threads = new Thread[1];
+
+		Executor executor = (command) -> {
+			Thread thread = new Thread(command);
+
+			threads[0] = thread;
+
+			thread.start();
+		};
+
+		try(InputStream is = new ReadAheadInputStream(new ByteArrayInputStream(new byte[100]), executor, 10, 1)){
+			// The producer is interrupted before it can enqueue all chunks
+			threads[0].interrupt();
+
+			assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+				IOException ioe = assertThrows(IOException.class, () -> is.readAllBytes());
+
+				assertInstanceOf(InterruptedIOException.class, ioe.getCause());
+
+				assertThrows(IOException.class, () -> is.read());
+			});
+		}
+	}
+
+	static
+	private byte[] createBytes(int size){
+		Random random = new Random(42L);
+
+		byte[] result = new byte[size];
+
+		for(int i = 0; i < result.length; i++){
+			result[i] = (byte)random.nextInt(16);
+		}
+
+		return result;
+	}
+
+	static
+	private byte[] compress(byte[] bytes) throws IOException {
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+		try(DeflaterOutputStream zlibOs = new DeflaterOutputStream(os)){
+			zlibOs.write(bytes);
+		}
+
+		return os.toByteArray();
+	}
+
+	static
+	private class FailingInputStream extends InputStream {
+
+		private Throwable failure = null;
+
+		private int count = 0;
+
+
+		private FailingInputStream(Throwable failure){
+			this.failure = failure;
+		}
+
+		@Override
+		public int read() throws IOException {
+
+			// Deliver one full chunk before failing
+			if(this.count < 10){
+				this.count++;
+
+				return 0;
+			} // End if
+
+			if(this.failure instanceof IOException){
+				throw (IOException)this.failure;
+			}
+
+			throw (Error)this.failure;
+		}
+	}
+}
\ No newline at end of file
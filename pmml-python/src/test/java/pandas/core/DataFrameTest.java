@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package pandas.core;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DataFrameTest {
+
+	@Test
+	public void getColumn(){
+		BlockManager data = new BlockManager("pandas.core.internals.managers", "BlockManager");
+		data.setattr("axes_array", Arrays.asList(SeriesUtilTest.createIndex(Arrays.asList(1L, 0L)), SeriesUtilTest.createRangeIndex(0, 3, 1)));
+		data.setBlockItems(Arrays.asList(SeriesUtilTest.createIndex(Arrays.asList(0L)), SeriesUtilTest.createIndex(Arrays.asList(1L))));
+		data.setBlockValues(Arrays.asList(SeriesUtilTest.createArray(Arrays.asList("a", "b", "c")), SeriesUtilTest.createArray(Arrays.asList(1d, 2d, 3d))));
+
+		DataFrame dataFrame = new DataFrame("pandas.core.frame", "DataFrame");
+		dataFrame.setattr("_mgr", data);
+
+		Series column = dataFrame.getColumn(0);
+
+		assertEquals(0L, column.getLabel());
+		assertEquals(Arrays.asList("a", "b", "c"), column.getArrayContent());
+
+		column = dataFrame.getColumn(1L);
+
+		assertEquals(1L, column.getLabel());
+		assertEquals(Arrays.asList(1d, 2d, 3d), column.getArrayContent());
+
+		column = dataFrame.getColumnAt(0);
+
+		assertEquals(1L, column.getLabel());
+
+		assertThrows(IllegalArgumentException.class, () -> dataFrame.getColumn(2L));
+		assertThrows(IllegalArgumentException.class, () -> dataFrame.getColumn("0"));
+	}
+}
\ No newline at end of file
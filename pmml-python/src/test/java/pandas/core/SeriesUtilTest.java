@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package pandas.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.razorvine.pickle.objects.ClassDictConstructor;
+import org.jpmml.python.HasArray;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SeriesUtilTest {
+
+	@Test
+	public void getRangeLoc(){
+		Index index = createRangeIndex(10, 0, -2);
+
+		assertEquals(Arrays.asList(10, 8, 6, 4, 2), index.getValues());
+
+		assertEquals(0, index.getLoc(10));
+		assertEquals(2, index.getLoc(6));
+		assertEquals(2, index.getLoc(6L));
+		assertEquals(2, index.getLoc((short)6));
+		assertEquals(4, index.getLoc((byte)2));
+
+		assertEquals(-1, index.getLoc(0));
+		assertEquals(-1, index.getLoc(7));
+		assertEquals(-1, index.getLoc(12L));
+		assertEquals(-1, index.getLoc(6L + (1L << 32)));
+		assertEquals(-1, index.getLoc(6d));
+		assertEquals(-1, index.getLoc("6"));
+		assertEquals(-1, index.getLoc(null));
+	}
+
+	@Test
+	public void getHashLoc(){
+		Index index = createIndex(Arrays.asList(3L, 1L, 3L, 2L));
+
+		assertEquals(0, index.getLoc(3L));
+		assertEquals(0, index.getLoc(3));
+		assertEquals(1, index.getLoc(1));
+		assertEquals(3, index.getLoc((short)2));
+
+		assertEquals(-1, index.getLoc(4L));
+		assertEquals(-1, index.getLoc(3d));
+		assertEquals(-1, index.getLoc("3"));
+
+		index = createIndex(Arrays.asList("a", "b", "c"));
+
+		assertEquals(1, index.getLoc("b"));
+
+		assertEquals(-1, index.getLoc("d"));
+		assertEquals(-1, index.getLoc(1));
+	}
+
+	@Test
+	public void getValue(){
+		Series series = SeriesUtil.createSeries(createIndex(Arrays.asList("a", "b", "c")), Arrays.asList(1d, null, 3d));
+
+		assertTrue(SeriesUtil.containsKey(series, "a"));
+		assertEquals(1d, SeriesUtil.getValue(series, "a"));
+
+		// Defined label, missing value
+		assertTrue(SeriesUtil.containsKey(series, "b"));
+		assertNull(SeriesUtil.getValue(series, "b"));
+
+		assertFalse(SeriesUtil.containsKey(series, "d"));
+		assertThrows(IllegalArgumentException.class, () -> SeriesUtil.getValue(series, "d"));
+
+		Series rangeSeries = SeriesUtil.createSeries(createRangeIndex(0, 3, 1), Arrays.asList("zero", "one", "two"));
+
+		assertEquals("one", SeriesUtil.getValue(rangeSeries, 1));
+		assertEquals("two", SeriesUtil.getValue(rangeSeries, 2L));
+
+		assertFalse(SeriesUtil.containsKey(rangeSeries, 3));
+		assertThrows(IllegalArgumentException.class, () -> SeriesUtil.getValue(rangeSeries, 3L));
+	}
+
+	static
+	Index createIndex(List<?> values){
+		Map<String, Object> data = new HashMap<>();
+		data.put("data", createArray(values));
+		data.put("name", null);
+
+		return createIndex(new ClassDictConstructor("pandas.core.indexes.base", "Index"), data);
+	}
+
+	static
+	HasArray createArray(List<?> values){
+		HasArray hasArray = new HasArray(){
+
+			@Override
+			public List<?> getArrayContent(){
+				return values;
+			}
+
+			@Override
+			public int[] getArrayShape(){
+				return new int[]{values.size()};
+			}
+
+			@Override
+			public Object getArrayType(){
+				throw new UnsupportedOperationException();
+			}
+		};
+
+		return hasArray;
+	}
+
+	static
+	Index createRangeIndex(int start, int stop, int step){
+		Map<String, Object> data = new HashMap<>();
+		data.put("name", null);
+		data.put("start", start);
+		data.put("stop", stop);
+		data.put("step", step);
+
+		return createIndex(new ClassDictConstructor("pandas.core.indexes.range", "RangeIndex"), data);
+	}
+
+	static
+	Index createIndex(ClassDictConstructor cls, Map<String, Object> data){
+		Index index = new Index("pandas.core.indexes.base", "_new_Index");
+		index.__init__(new Object[]{cls, data});
+
+		return index;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package polars.series;
+
+import org.apache.arrow.flatbuf.Precision;
+import org.apache.arrow.flatbuf.TimeUnit;
+import org.apache.arrow.flatbuf.Type;
+import org.junit.jupiter.api.Test;
+import polars.datatypes.Array;
+import polars.datatypes.Binary;
+import polars.datatypes.DataType;
+import polars.datatypes.Decimal;
+import polars.datatypes.Duration;
+import polars.datatypes.Float64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SeriesTest {
+
+	@Test
+	public void getDecimalArrayType(){
+		Series series = new Series()
+			.setTypeType(Type.Decimal);
+
+		series.setattr("bitWidth", 128);
+		series.setattr("precision", 10);
+		series.setattr("scale", 2);
+
+		Decimal decimal = (Decimal)series.getArrayType();
+
+		assertEquals("Decimal", decimal.getPythonName());
+		assertEquals((Integer)10, decimal.getPrecision());
+		assertEquals((Integer)2, decimal.getScale());
+	}
+
+	@Test
+	public void getDurationArrayType(){
+		Series series = new Series()
+			.setTypeType(Type.Duration);
+
+		series.setattr("unit", (int)TimeUnit.MICROSECOND);
+
+		Duration duration = (Duration)series.getArrayType();
+
+		assertEquals("Duration", duration.getPythonName());
+		assertEquals("us", duration.getTimeUnit());
+
+		series.setattr("unit", (int)TimeUnit.SECOND);
+
+		assertThrows(IllegalArgumentException.class, () -> series.getArrayType());
+	}
+
+	@Test
+	public void getBinaryArrayType(){
+		Series series = new Series()
+			.setTypeType(Type.Binary);
+
+		DataType binary = series.getArrayType();
+
+		assertInstanceOf(Binary.class, binary);
+		assertEquals("Binary", binary.getPythonName());
+
+		series.setTypeType(Type.LargeBinary);
+
+		assertInstanceOf(Binary.class, series.getArrayType());
+	}
+
+	@Test
+	public void getFixedSizeListArrayType(){
+		Series values = new Series()
+			.setTypeType(Type.FloatingPoint);
+
+		values.setattr("precision", (int)Precision.DOUBLE);
+
+		Series series = new Series()
+			.setTypeType(Type.FixedSizeList);
+
+		series.setattr("listSize", 3);
+		series.setattr("values", values);
+
+		Array array = (Array)series.getArrayType();
+
+		assertEquals("Array", array.getPythonName());
+		assertInstanceOf(Float64.class, array.getInner());
+		assertEquals((Integer)3, array.getSize());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package pyarrow;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.arrow.flatbuf.DateUnit;
+import org.apache.arrow.flatbuf.Precision;
+import org.apache.arrow.flatbuf.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ArrayUtilTest {
+
+	@Test
+	public void decodeFloatingPoints(){
+		ByteBuffer validityBuffer = ByteBuffer.wrap(new byte[]{(byte)0b00001101});
+
+		ByteBuffer dataBuffer = ByteBuffer.allocate(4 * 8)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		dataBuffer.asDoubleBuffer().put(new double[]{1d, 2d, 3d, 4d});
+
+		List<Number> values = ArrayUtil.decodeFloatingPoints(validityBuffer, 1, dataBuffer, 0, 4, Precision.DOUBLE);
+
+		assertEquals(Arrays.asList(1d, null, 3d, 4d), values);
+
+		values = ArrayUtil.decodeFloatingPoints(validityBuffer, 1, dataBuffer, 1, 3, Precision.DOUBLE);
+
+		assertEquals(Arrays.asList(null, 3d, 4d), values);
+
+		assertThrows(IndexOutOfBoundsException.class, () -> ArrayUtil.decodeFloatingPoints(validityBuffer, 1, dataBuffer, 0, 4, Precision.DOUBLE).get(4));
+	}
+
+	@Test
+	public void copyFloatingPoints(){
+		// 70 elements, with elements #1 and #65 missing
+		byte[] validity = new byte[9];
+		Arrays.fill(validity, (byte)0xFF);
+		validity[0] = (byte)0b11111101;
+		validity[8] = (byte)0b11111101;
+
+		ByteBuffer validityBuffer = ByteBuffer.wrap(validity);
+
+		ByteBuffer dataBuffer = ByteBuffer.allocate(70 * 8)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		for(int i = 0; i < 70; i++){
+			dataBuffer.putDouble(i);
+		}
+
+		double[] values = new double[70];
+		boolean[] nullMask = new boolean[70];
+
+		assertEquals(2, ArrayUtil.copyFloatingPoints(validityBuffer, 2, dataBuffer, 0, 70, Precision.DOUBLE, values, nullMask, 0));
+
+		for(int i = 0; i < 70; i++){
+			boolean missing = (i == 1 || i == 65);
+
+			assertEquals(missing, nullMask[i]);
+			assertEquals(missing ? Double.NaN : (double)i, values[i]);
+		}
+
+		values = new double[4];
+		nullMask = new boolean[4];
+
+		assertEquals(1, ArrayUtil.copyFloatingPoints(validityBuffer, 2, dataBuffer, 63, 3, Precision.DOUBLE, values, nullMask, 1));
+
+		assertEquals(Arrays.asList(false, false, false, true), Arrays.asList(nullMask[0], nullMask[1], nullMask[2], nullMask[3]));
+		assertEquals(64d, values[2]);
+	}
+
+	@Test
+	public void copyInts(){
+		ByteBuffer dataBuffer = ByteBuffer.allocate(3 * 4)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		dataBuffer.asIntBuffer().put(new int[]{1, -1, 3});
+
+		long[] values = new long[3];
+
+		assertEquals(0, ArrayUtil.copyInts(null, 0, dataBuffer, 0, 3, 32, false, values, null, 0));
+		assertEquals(4294967295L, values[1]);
+
+		assertThrows(IllegalArgumentException.class, () -> ArrayUtil.copyInts(null, 0, dataBuffer, 0, 1, 64, false, new long[1], null, 0));
+	}
+
+	@Test
+	public void decodeTemporals(){
+		ByteBuffer dateBuffer = ByteBuffer.allocate(2 * 4)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		dateBuffer.asIntBuffer().put(new int[]{0, 19000});
+
+		assertEquals(Arrays.asList(LocalDate.of(1970, 1, 1), LocalDate.of(2022, 1, 8)), ArrayUtil.decodeDates(null, 0, dateBuffer, 0, 2, DateUnit.DAY));
+
+		ByteBuffer timestampBuffer = ByteBuffer.allocate(2 * 8)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		timestampBuffer.asLongBuffer().put(new long[]{-1L, 1_500_000L});
+
+		assertEquals(Arrays.asList(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000), LocalDateTime.of(1970, 1, 1, 0, 0, 1, 500_000_000)), ArrayUtil.decodeTimestamps(null, 0, timestampBuffer, 0, 2, TimeUnit.MICROSECOND, null));
+		assertEquals(ZonedDateTime.of(1970, 1, 1, 2, 0, 1, 500_000_000, ZoneId.of("+02:00")), ArrayUtil.decodeTimestamps(null, 0, timestampBuffer, 0, 2, TimeUnit.MICROSECOND, "+02:00").get(1));
+
+		assertEquals(Arrays.asList(Duration.ofNanos(-1000L), Duration.ofMillis(1500L)), ArrayUtil.decodeDurations(null, 0, timestampBuffer, 0, 2, TimeUnit.MICROSECOND));
+	}
+
+	@Test
+	public void decodeDecimals(){
+		ByteBuffer dataBuffer = ByteBuffer.allocate(2 * 16)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		dataBuffer.putLong(12345L).putLong(0L);
+		dataBuffer.putLong(-12345L).putLong(-1L);
+
+		assertEquals(Arrays.asList(new BigDecimal("123.45"), new BigDecimal("-123.45")), ArrayUtil.decodeDecimals(null, 0, dataBuffer, 0, 2, 128, 2));
+	}
+
+	@Test
+	public void decodeStringViews(){
+		String shortString = "short";
+		String longString = "a string that does not fit into a view";
+
+		byte[] longBytes = longString.getBytes(StandardCharsets.UTF_8);
+
+		ByteBuffer viewsBuffer = ByteBuffer.allocate(2 * 16)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		viewsBuffer.putInt(shortString.length()).put(shortString.getBytes(StandardCharsets.UTF_8));
+
+		viewsBuffer.position(16);
+		viewsBuffer.putInt(longBytes.length).put(longBytes, 0, 4).putInt(0).putInt(3);
+
+		ByteBuffer dataBuffer = ByteBuffer.allocate(3 + longBytes.length);
+		dataBuffer.position(3);
+		dataBuffer.put(longBytes);
+
+		assertEquals(Arrays.asList(shortString, longString), ArrayUtil.decodeStringViews(null, 0, viewsBuffer, Collections.singletonList(dataBuffer), 0, 2));
+
+		assertThrows(IllegalArgumentException.class, () -> ArrayUtil.decodeStringViews(null, 0, viewsBuffer, 0, 2).get(1));
+	}
+
+	@Test
+	public void decodeFixedSizeLists(){
+		ByteBuffer validityBuffer = ByteBuffer.wrap(new byte[]{(byte)0b00000101});
+
+		List<Integer> values = Arrays.asList(1, 2, 3, 4, 5, 6);
+
+		assertEquals(Arrays.asList(Arrays.asList(1, 2), null, Arrays.asList(5, 6)), ArrayUtil.decodeFixedSizeLists(validityBuffer, 1, values, 0, 3, 2));
+	}
+
+	@Test
+	public void concatenate(){
+		List<Integer> values = ArrayUtil.concatenate(Arrays.asList(Arrays.asList(1, 2), Collections.emptyList(), Collections.emptyList(), Arrays.asList(3), Arrays.asList(4, 5)));
+
+		assertEquals(Arrays.asList(1, 2, 3, 4, 5), values);
+
+		assertEquals(Collections.emptyList(), ArrayUtil.concatenate(Collections.emptyList()));
+	}
+}
@@ -0,0 +1,447 @@
+/*
+ * Copyright (c) 2026 Villu Ruusmann
+ *
+ * This file is part of JPMML-Python
+ *
+ * JPMML-Python is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JPMML-Python is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with JPMML-Python.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package pyarrow;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import org.apache.arrow.flatbuf.BodyCompression;
+import org.apache.arrow.flatbuf.BodyCompressionMethod;
+import org.apache.arrow.flatbuf.Buffer;
+import org.apache.arrow.flatbuf.CompressionType;
+import org.apache.arrow.flatbuf.DictionaryBatch;
+import org.apache.arrow.flatbuf.DictionaryEncoding;
+import org.apache.arrow.flatbuf.Field;
+import org.apache.arrow.flatbuf.FieldNode;
+import org.apache.arrow.flatbuf.FloatingPoint;
+import org.apache.arrow.flatbuf.Int;
+import org.apache.arrow.flatbuf.Message;
+import org.apache.arrow.flatbuf.MessageHeader;
+import org.apache.arrow.flatbuf.MetadataVersion;
+import org.apache.arrow.flatbuf.Precision;
+import org.apache.arrow.flatbuf.RecordBatch;
+import org.apache.arrow.flatbuf.Schema;
+import org.apache.arrow.flatbuf.Type;
+import org.junit.jupiter.api.Test;
+import polars.series.Series;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IPCUtilTest {
+
+	@Test
+	public void parseDataFrame(){
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+		writeMessage(os, createSchema(), new byte[0]);
+
+		writeMessage(os, createRecordBatch(2), createBody(new long[]{1L, 2L}, new double[]{0.5d, 1.5d}));
+		writeMessage(os, createRecordBatch(1), createBody(new long[]{3L}, new double[]{2.5d}));
+
+		// End-of-stream marker
+		os.writeBytes(new byte[]{(byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0, 0, 0, 0});
+
+		List<Series> columns = IPCUtil.parseDataFrame(os.toByteArray());
+
+		assertEquals(2, columns.size());
+
+		Series first = columns.get(0);
+
+		assertEquals("a", first.getName());
+		assertEquals((Integer)3, first.getLength());
+		assertNotNull(first.getChunks());
+		assertEquals(Arrays.asList(1L, 2L, 3L), first.getArrayContent());
+
+		Series second = columns.get(1);
+
+		assertEquals("b", second.getName());
+		assertEquals(Arrays.asList(0.5d, 1.5d, 2.5d), second.getArrayContent());
+
+		Series chunk = (first.getChunks()).get(1);
+
+		assertNull(chunk.getChunks());
+		assertEquals((Integer)1, chunk.getLength());
+		assertEquals(Arrays.asList(3L), chunk.getArrayContent());
+	}
+
+	@Test
+	public void parseCompressedDataFrame(){
+		byte[] state = createCompressedStream(new long[]{1L, 2L, 3L}, new double[]{0.5d, 1.5d, 2.5d});
+
+		List<Series> columns = IPCUtil.parseDataFrame(state);
+
+		assertEquals(2, columns.size());
+
+		assertEquals(Arrays.asList(1L, 2L, 3L), (columns.get(0)).getArrayContent());
+		assertEquals(Arrays.asList(0.5d, 1.5d, 2.5d), (columns.get(1)).getArrayContent());
+	}
+
+	@Test
+	public void parseCompressedDataFrameInParallel(){
+		// The total size of buffers exceeds the parallel decompression threshold
+		long[] longValues = new long[128 * 1024];
+
+		for(int i = 0; i < longValues.length; i++){
+			longValues[i] = i;
+		}
+
+		byte[] state = createCompressedStream(longValues, new double[]{0.5d, 1.5d, 2.5d});
+
+		AtomicInteger count = new AtomicInteger();
+
+		Executor executor = (command) -> {
+			count.incrementAndGet();
+
+			command.run();
+		};
+
+		List<Series> columns = IPCUtil.parseDataFrame(ByteBuffer.wrap(state), executor);
+
+		assertEquals(4, count.get());
+
+		assertEquals((long)(longValues.length - 1), ((columns.get(0)).getArrayContent()).get(longValues.length - 1));
+		assertEquals(Arrays.asList(0.5d, 1.5d, 2.5d), (columns.get(1)).getArrayContent());
+
+		count.set(0);
+
+		columns = IPCUtil.parseDataFrame(ByteBuffer.wrap(state), null);
+
+		assertEquals(0, count.get());
+
+		assertEquals(Arrays.asList(0.5d, 1.5d, 2.5d), (columns.get(1)).getArrayContent());
+	}
+
+	@Test
+	public void parseReplacedDictionary(){
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+		writeMessage(os, createDictionarySchema(), new byte[0]);
+
+		writeMessage(os, createDictionaryBatch(2, false), createLongBody(10L, 20L));
+		// Replacement before the first record batch
+		writeMessage(os, createDictionaryBatch(2, false), createLongBody(30L, 40L));
+		writeMessage(os, createIndexRecordBatch(2), createIntBody(0, 1));
+
+		byte[] validState = os.toByteArray();
+
+		assertEquals(1, (IPCUtil.parseDataFrame(validState)).size());
+
+		// Replacement after the first record batch
+		writeMessage(os, createDictionaryBatch(2, false), createLongBody(50L, 60L));
+		writeMessage(os, createIndexRecordBatch(2), createIntBody(1, 0));
+
+		byte[] invalidState = os.toByteArray();
+
+		assertThrows(IllegalArgumentException.class, () -> IPCUtil.parseDataFrame(invalidState));
+	}
+
+	static
+	private byte[] createCompressedStream(long[] longValues, double[] doubleValues){
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+		writeMessage(os, createSchema(), new byte[0]);
+
+		// Stored as-is, as indicated by the uncompressed length of -1
+		ByteBuffer longBuffer = ByteBuffer.allocate(8 + longValues.length * 8)
+			.order(ByteOrder.LITTLE_ENDIAN)
+			.putLong(-1L);
+
+		for(long longValue : longValues){
+			longBuffer.putLong(longValue);
+		}
+
+		// LZ4 frame, which consists of a single uncompressed block
+		ByteBuffer doubleBuffer = ByteBuffer.allocate(8 + (7 + 4 + doubleValues.length * 8 + 4))
+			.order(ByteOrder.LITTLE_ENDIAN)
+			.putLong(doubleValues.length * 8)
+			.putInt(0x184D2204)
+			.put((byte)0x60)
+			.put((byte)0x40)
+			.put((byte)0x00)
+			.putInt(0x80000000 | (doubleValues.length * 8));
+
+		for(double doubleValue : doubleValues){
+			doubleBuffer.putDouble(doubleValue);
+		}
+
+		doubleBuffer.putInt(0);
+
+		byte[] longBytes = longBuffer.array();
+		byte[] doubleBytes = doubleBuffer.array();
+
+		ByteBuffer body = ByteBuffer.allocate(padTo8(longBytes.length) + padTo8(doubleBytes.length));
+		body.put(longBytes);
+		body.position(padTo8(longBytes.length));
+		body.put(doubleBytes);
+
+		writeMessage(os, createCompressedRecordBatch(longValues.length, longBytes.length, doubleBytes.length), body.array());
+
+		return os.toByteArray();
+	}
+
+	static
+	private byte[] createSchema(){
+		FlatBufferBuilder builder = new FlatBufferBuilder();
+
+		int firstName = builder.createString("a");
+		int firstType = Int.createInt(builder, 64, true);
+
+		Field.startField(builder);
+		Field.addName(builder, firstName);
+		Field.addNullable(builder, true);
+		Field.addTypeType(builder, Type.Int);
+		Field.addType(builder, firstType);
+		int first = Field.endField(builder);
+
+		int secondName = builder.createString("b");
+		int secondType = FloatingPoint.createFloatingPoint(builder, Precision.DOUBLE);
+
+		Field.startField(builder);
+		Field.addName(builder, secondName);
+		Field.addNullable(builder, true);
+		Field.addTypeType(builder, Type.FloatingPoint);
+		Field.addType(builder, secondType);
+		int second = Field.endField(builder);
+
+		int fields = Schema.createFieldsVector(builder, new int[]{first, second});
+
+		Schema.startSchema(builder);
+		Schema.addFields(builder, fields);
+		int schema = Schema.endSchema(builder);
+
+		return finishMessage(builder, MessageHeader.Schema, schema, 0);
+	}
+
+	static
+	private byte[] createDictionarySchema(){
+		FlatBufferBuilder builder = new FlatBufferBuilder();
+
+		int name = builder.createString("a");
+		int type = Int.createInt(builder, 64, true);
+		int indexType = Int.createInt(builder, 32, true);
+
+		DictionaryEncoding.startDictionaryEncoding(builder);
+		DictionaryEncoding.addId(builder, 0L);
+		DictionaryEncoding.addIndexType(builder, indexType);
+		int dictionary = DictionaryEncoding.endDictionaryEncoding(builder);
+
+		Field.startField(builder);
+		Field.addName(builder, name);
+		Field.addNullable(builder, true);
+		Field.addTypeType(builder, Type.Int);
+		Field.addType(builder, type);
+		Field.addDictionary(builder, dictionary);
+		int field = Field.endField(builder);
+
+		int fields = Schema.createFieldsVector(builder, new int[]{field});
+
+		Schema.startSchema(builder);
+		Schema.addFields(builder, fields);
+		int schema = Schema.endSchema(builder);
+
+		return finishMessage(builder, MessageHeader.Schema, schema, 0);
+	}
+
+	static
+	private byte[] createDictionaryBatch(int length, boolean delta){
+		FlatBufferBuilder builder = new FlatBufferBuilder();
+
+		int data = createColumnRecordBatch(builder, length, length * 8);
+
+		DictionaryBatch.startDictionaryBatch(builder);
+		DictionaryBatch.addId(builder, 0L);
+		DictionaryBatch.addData(builder, data);
+		DictionaryBatch.addIsDelta(builder, delta);
+		int dictionaryBatch = DictionaryBatch.endDictionaryBatch(builder);
+
+		return finishMessage(builder, MessageHeader.DictionaryBatch, dictionaryBatch, padTo8(length * 8));
+	}
+
+	static
+	private byte[] createIndexRecordBatch(int length){
+		FlatBufferBuilder builder = new FlatBufferBuilder();
+
+		int recordBatch = createColumnRecordBatch(builder, length, length * 4);
+
+		return finishMessage(builder, MessageHeader.RecordBatch, recordBatch, padTo8(length * 4));
+	}
+
+	static
+	private int createColumnRecordBatch(FlatBufferBuilder builder, int length, int size){
+		RecordBatch.startNodesVector(builder, 1);
+		FieldNode.createFieldNode(builder, length, 0);
+		int nodes = builder.endVector();
+
+		RecordBatch.startBuffersVector(builder, 2);
+		Buffer.createBuffer(builder, 0, size);
+		Buffer.createBuffer(builder, 0, 0);
+		int buffers = builder.endVector();
+
+		RecordBatch.startRecordBatch(builder);
+		RecordBatch.addLength(builder, length);
+		RecordBatch.addNodes(builder, nodes);
+		RecordBatch.addBuffers(builder, buffers);
+
+		return RecordBatch.endRecordBatch(builder);
+	}
+
+	static
+	private byte[] createRecordBatch(int length){
+		FlatBufferBuilder builder = new FlatBufferBuilder();
+
+		RecordBatch.startNodesVector(builder, 2);
+		// Vectors of structs are built back to front
+		FieldNode.createFieldNode(builder, length, 0);
+		FieldNode.createFieldNode(builder, length, 0);
+		int nodes = builder.endVector();
+
+		RecordBatch.startBuffersVector(builder, 4);
+		Buffer.createBuffer(builder, padTo8(length * 8), length * 8);
+		Buffer.createBuffer(builder, padTo8(length * 8), 0);
+		Buffer.createBuffer(builder, 0, length * 8);
+		Buffer.createBuffer(builder, 0, 0);
+		int buffers = builder.endVector();
+
+		RecordBatch.startRecordBatch(builder);
+		RecordBatch.addLength(builder, length);
+		RecordBatch.addNodes(builder, nodes);
+		RecordBatch.addBuffers(builder, buffers);
+		int recordBatch = RecordBatch.endRecordBatch(builder);
+
+		return finishMessage(builder, MessageHeader.RecordBatch, recordBatch, 2 * padTo8(length * 8));
+	}
+
+	static
+	private byte[] createCompressedRecordBatch(int length, int longSize, int doubleSize){
+		FlatBufferBuilder builder = new FlatBufferBuilder();
+
+		RecordBatch.startNodesVector(builder, 2);
+		FieldNode.createFieldNode(builder, length, 0);
+		FieldNode.createFieldNode(builder, length, 0);
+		int nodes = builder.endVector();
+
+		RecordBatch.startBuffersVector(builder, 4);
+		Buffer.createBuffer(builder, padTo8(longSize), doubleSize);
+		Buffer.createBuffer(builder, padTo8(longSize), 0);
+		Buffer.createBuffer(builder, 0, longSize);
+		Buffer.createBuffer(builder, 0, 0);
+		int buffers = builder.endVector();
+
+		BodyCompression.startBodyCompression(builder);
+		BodyCompression.addCodec(builder, CompressionType.LZ4_FRAME);
+		BodyCompression.addMethod(builder, BodyCompressionMethod.BUFFER);
+		int compression = BodyCompression.endBodyCompression(builder);
+
+		RecordBatch.startRecordBatch(builder);
+		RecordBatch.addLength(builder, length);
+		RecordBatch.addNodes(builder, nodes);
+		RecordBatch.addBuffers(builder, buffers);
+		RecordBatch.addCompression(builder, compression);
+		int recordBatch = RecordBatch.endRecordBatch(builder);
+
+		return finishMessage(builder, MessageHeader.RecordBatch, recordBatch, padTo8(longSize) + padTo8(doubleSize));
+	}
+
+	static
+	private byte[] finishMessage(FlatBufferBuilder builder, byte headerType, int header, long bodyLength){
+		Message.startMessage(builder);
+		Message.addVersion(builder, MetadataVersion.V5);
+		Message.addHeaderType(builder, headerType);
+		Message.addHeader(builder, header);
+		Message.addBodyLength(builder, bodyLength);
+		int message = Message.endMessage(builder);
+
+		builder.finish(message);
+
+		return builder.sizedByteArray();
+	}
+
+	static
+	private byte[] createBody(long[] longValues, double[] doubleValues){
+		int longSize = padTo8(longValues.length * 8);
+		int doubleSize = padTo8(doubleValues.length * 8);
+
+		ByteBuffer buffer = ByteBuffer.allocate(longSize + doubleSize)
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		for(long longValue : longValues){
+			buffer.putLong(longValue);
+		}
+
+		buffer.position(longSize);
+
+		for(double doubleValue : doubleValues){
+			buffer.putDouble(doubleValue);
+		}
+
+		return buffer.array();
+	}
+
+	static
+	private byte[] createLongBody(long... values){
+		ByteBuffer buffer = ByteBuffer.allocate(padTo8(values.length * 8))
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		for(long value : values){
+			buffer.putLong(value);
+		}
+
+		return buffer.array();
+	}
+
+	static
+	private byte[] createIntBody(int... values){
+		ByteBuffer buffer = ByteBuffer.allocate(padTo8(values.length * 4))
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		for(int value : values){
+			buffer.putInt(value);
+		}
+
+		return buffer.array();
+	}
+
+	static
+	private void writeMessage(ByteArrayOutputStream os, byte[] metadata, byte[] body){
+		int metadataLength = padTo8(metadata.length);
+
+		ByteBuffer prefix = ByteBuffer.allocate(8)
+			.order(ByteOrder.LITTLE_ENDIAN)
+			.putInt(0xFFFFFFFF)
+			.putInt(metadataLength);
+
+		os.writeBytes(prefix.array());
+		os.writeBytes(Arrays.copyOf(metadata, metadataLength));
+		os.writeBytes(body);
+	}
+
+	static
+	private int padTo8(int size){
+		return (size + 7) & ~7;
+	}
+}
\ No newline at end of file